@@ -1,6 +1,8 @@
 package org.palladiosimulator.somox.analyzer.rules.all;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 import org.palladiosimulator.somox.analyzer.rules.engine.IRule;
@@ -18,16 +20,31 @@ import org.palladiosimulator.somox.analyzer.rules.maven.MavenRules;
 */
 public enum DefaultRule {
 
-	SPRING(SpringRules.class),
-	JAX_RS(JaxRSRules.class),
-	MAVEN(MavenRules.class),
-	SPRING_EMFTEXT(org.palladiosimulator.somox.analyzer.rules.impl.emftext.SpringRules.class),
-	JAX_RS_EMFTEXT(org.palladiosimulator.somox.analyzer.rules.impl.emftext.JaxRSRules.class);
+	SPRING(SpringRules.class, RuleBackend.ECLIPSE),
+	JAX_RS(JaxRSRules.class, RuleBackend.ECLIPSE),
+	MAVEN(MavenRules.class, RuleBackend.BUILD_FILES),
+	SPRING_EMFTEXT(org.palladiosimulator.somox.analyzer.rules.impl.emftext.SpringRules.class, RuleBackend.EMFTEXT),
+	JAX_RS_EMFTEXT(org.palladiosimulator.somox.analyzer.rules.impl.emftext.JaxRSRules.class, RuleBackend.EMFTEXT);
 
 	private final Class<? extends IRule> ruleClass;
+	private final MethodHandle ruleConstructor;
+	private final RuleBackend backend;
 
-	private DefaultRule(Class<? extends IRule> ruleClass){
+	private DefaultRule(Class<? extends IRule> ruleClass, RuleBackend backend){
 		this.ruleClass = ruleClass;
+		this.ruleConstructor = findConstructor(ruleClass);
+		this.backend = backend;
+	}
+
+	private static MethodHandle findConstructor(Class<? extends IRule> ruleClass) {
+		try {
+			return MethodHandles.publicLookup()
+				.findConstructor(ruleClass, MethodType.methodType(void.class, RuleEngineBlackboard.class))
+				.asType(MethodType.methodType(IRule.class, RuleEngineBlackboard.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(
+					"The rule " + ruleClass.getName() + " has no public constructor accepting a blackboard", e);
+		}
 	}
 
 	/**
@@ -45,15 +62,35 @@ public enum DefaultRule {
 		return names;
 	}
 
+	public Class<? extends IRule> getRuleClass() {
+		return ruleClass;
+	}
+
+	/**
+	* Returns the model this rule works on.
+	*
+	* @return      the backend of this rule
+	*/
+	public RuleBackend getBackend() {
+		return backend;
+	}
+
+	/**
+	* Creates a new instance of this rule working on the given blackboard. The constructor is looked
+	* up only once, so this is cheap. Nevertheless, a rule instance should be created once per
+	* analysis and blackboard and then be used for all paths.
+	*
+	* @param  blackboard the blackboard the rule works on
+	* @return            the new rule instance
+	*/
 	public IRule getRule(RuleEngineBlackboard blackboard) {
 		try {
-            return ruleClass.getDeclaredConstructor(RuleEngineBlackboard.class).newInstance(blackboard);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            // TODO Maybe solve this a little bit better..?
-            e.printStackTrace();
-        }
-		return null;
+			return (IRule) ruleConstructor.invokeExact(blackboard);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("The rule " + ruleClass.getName() + " could not be created", e);
+		}
 	}
 
 }
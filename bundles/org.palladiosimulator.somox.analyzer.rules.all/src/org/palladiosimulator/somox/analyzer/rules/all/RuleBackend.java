@@ -0,0 +1,34 @@
+package org.palladiosimulator.somox.analyzer.rules.all;
+
+import java.util.Collection;
+
+/**
+ * The model a rule works on. Only the parsers for the backends of the selected rules have to be
+ * executed.
+ */
+public enum RuleBackend {
+    /**
+     * The rule works on the JDT {@code CompilationUnit}s of the Eclipse parser.
+     */
+    ECLIPSE,
+    /**
+     * The rule works on the EMFText {@code CompilationUnit}s of the JaMoPP parser.
+     */
+    EMFTEXT,
+    /**
+     * The rule only works on build files and the compilation units found by other rules.
+     */
+    BUILD_FILES;
+
+    /**
+     * Checks whether any of the given rules works on this backend.
+     *
+     * @param rules
+     *            the selected rules
+     * @return whether the backend is required by the rules
+     */
+    public boolean isRequiredBy(Collection<DefaultRule> rules) {
+        return rules.stream()
+            .anyMatch(rule -> rule.getBackend() == this);
+    }
+}
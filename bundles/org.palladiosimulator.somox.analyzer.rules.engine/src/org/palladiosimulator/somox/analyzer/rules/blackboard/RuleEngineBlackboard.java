@@ -14,18 +14,20 @@ import org.palladiosimulator.pcm.repository.RepositoryComponent;
 import org.palladiosimulator.pcm.system.System;
 import org.palladiosimulator.somox.analyzer.rules.engine.EMFTextPCMDetector;
 import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMDetector;
+import org.palladiosimulator.somox.analyzer.rules.engine.TypeSummaryIndex;
 import org.somox.analyzer.AnalysisResult;
 import org.somox.extractor.ExtractionResult;
 
-import com.google.common.collect.Sets;
-
 import de.uka.ipd.sdq.workflow.blackboard.Blackboard;
 
 public class RuleEngineBlackboard extends Blackboard<Object> {
 
+    private final RuleEngineBlackboard parent;
     private Map<String, ExtractionResult> extractionResults;
     private Set<CompilationUnitWrapper> compilationUnits;
     private Map<CompilationUnitWrapper, Set<Path>> compilationUnitLocations;
+    private Map<Path, Set<CompilationUnitWrapper>> compilationUnitsByLocation;
+    private Set<CompilationUnitWrapper> locationlessCompilationUnits;
     private Map<RepositoryComponent, CompilationUnitWrapper> repositoryComponentLocations;
     private Map<Entity, CompilationUnitWrapper> entityLocations;
     private Map<Path, Set<CompilationUnitWrapper>> systemAssociations;
@@ -33,17 +35,95 @@ public class RuleEngineBlackboard extends Blackboard<Object> {
     private EMFTextPCMDetector emfTextPcmDetector;
     private EclipsePCMDetector eclipsePcmDetector;
     private AnalysisResult analysisResult;
+    private TypeSummaryIndex typeSummaryIndex;
 
     public RuleEngineBlackboard() {
+        parent = null;
         extractionResults = new HashMap<>();
         compilationUnits = new HashSet<>();
         compilationUnitLocations = new HashMap<>();
+        compilationUnitsByLocation = new HashMap<>();
+        locationlessCompilationUnits = new HashSet<>();
         repositoryComponentLocations = new HashMap<>();
         entityLocations = new HashMap<>();
         systemAssociations = new HashMap<>();
         systemPaths = new HashMap<>();
     }
 
+    private RuleEngineBlackboard(RuleEngineBlackboard parent) {
+        this.parent = parent;
+        extractionResults = parent.extractionResults;
+        compilationUnits = parent.compilationUnits;
+        compilationUnitLocations = parent.compilationUnitLocations;
+        compilationUnitsByLocation = parent.compilationUnitsByLocation;
+        locationlessCompilationUnits = parent.locationlessCompilationUnits;
+        repositoryComponentLocations = parent.repositoryComponentLocations;
+        entityLocations = parent.entityLocations;
+        systemAssociations = parent.systemAssociations;
+        systemPaths = parent.systemPaths;
+        typeSummaryIndex = parent.typeSummaryIndex;
+        emfTextPcmDetector = new EMFTextPCMDetector();
+        eclipsePcmDetector = new EclipsePCMDetector(this);
+    }
+
+    /**
+     * Creates a shard of this blackboard for rules that are executed on a worker thread. The shard
+     * shares the compilation units and their locations with this blackboard, but records its
+     * detections in its own PCM detectors. These can be merged back with
+     * {@link #mergeShard(RuleEngineBlackboard)} afterwards. The partitions of this blackboard can be
+     * read from the shard, partitions added to the shard are discarded with it.
+     * 
+     * @return a new shard of this blackboard
+     */
+    public RuleEngineBlackboard createShard() {
+        return new RuleEngineBlackboard(this);
+    }
+
+    /**
+     * Merges the detections of a shard created by {@link #createShard()} into the PCM detectors of
+     * this blackboard. Shards have to be merged in the order of the compilation units they
+     * processed to get the same result as a sequential execution.
+     * 
+     * @param shard
+     *            the shard to merge
+     */
+    public void mergeShard(RuleEngineBlackboard shard) {
+        emfTextPcmDetector.merge(shard.getEMFTextPCMDetector());
+        eclipsePcmDetector.merge(shard.getEclipsePCMDetector());
+    }
+
+    /**
+     * Removes the compilation units, their locations and all detections of an analysis from this
+     * blackboard, e.g. after it has been canceled. Partitions are not affected.
+     */
+    public void clearAnalysisState() {
+        compilationUnits.clear();
+        compilationUnitLocations.clear();
+        compilationUnitsByLocation.clear();
+        locationlessCompilationUnits.clear();
+        repositoryComponentLocations.clear();
+        entityLocations.clear();
+        systemAssociations.clear();
+        systemPaths.clear();
+        emfTextPcmDetector = new EMFTextPCMDetector();
+        eclipsePcmDetector = new EclipsePCMDetector(this);
+        analysisResult = null;
+    }
+
+    @Override
+    public boolean hasPartition(String id) {
+        return super.hasPartition(id) || (parent != null && parent.hasPartition(id));
+    }
+
+    @Override
+    public Object getPartition(String id) {
+        // A shard only reads the partitions of its parent, it never modifies them
+        if (parent != null && !super.hasPartition(id)) {
+            return parent.getPartition(id);
+        }
+        return super.getPartition(id);
+    }
+
     public ExtractionResult putExtractionResult(String identifier, ExtractionResult extractionResult) {
         return extractionResults.put(identifier, extractionResult);
     }
@@ -57,8 +137,17 @@ public class RuleEngineBlackboard extends Blackboard<Object> {
         if (paths == null) {
             paths = new HashSet<>();
             compilationUnitLocations.put(compilationUnit, paths);
+            locationlessCompilationUnits.remove(compilationUnit);
         }
-        paths.add(path.normalize());
+        final Path normalizedPath = path.normalize();
+        paths.add(normalizedPath);
+
+        Set<CompilationUnitWrapper> compUnits = compilationUnitsByLocation.get(normalizedPath);
+        if (compUnits == null) {
+            compUnits = new HashSet<>();
+            compilationUnitsByLocation.put(normalizedPath, compUnits);
+        }
+        compUnits.add(compilationUnit);
     }
 
     public Set<Path> getCompilationUnitLocations(CompilationUnitWrapper compilationUnit) {
@@ -124,32 +213,59 @@ public class RuleEngineBlackboard extends Blackboard<Object> {
      * 
      * @param path
      *            the path to look for registered CompilationUnits at
-     * @return the CompilationUnits or {@code null} if there was none at the {@code path}
+     * @return the CompilationUnits or an empty set if there was none at the {@code path}
      */
     public Set<CompilationUnitWrapper> getCompilationUnitAt(Path path) {
         if (path == null) {
             // Return all registered CompilationUnits that are not associated with a path
-            return Sets.difference(compilationUnits, compilationUnitLocations.keySet());
+            return Collections.unmodifiableSet(locationlessCompilationUnits);
         }
 
-        Set<CompilationUnitWrapper> compUnit = new HashSet<>();
-        for (Entry<CompilationUnitWrapper, Set<Path>> entry : compilationUnitLocations.entrySet()) {
-            // Path::equals is enough because the working directory does not change
-            if (entry.getValue()
-                .contains(path.normalize())) {
-                compUnit.add(entry.getKey());
-            }
+        // Path::equals is enough because the working directory does not change
+        Set<CompilationUnitWrapper> compUnits = compilationUnitsByLocation.get(path.normalize());
+        if (compUnits == null) {
+            return Collections.emptySet();
+        } else {
+            return Collections.unmodifiableSet(compUnits);
         }
-
-        return compUnit;
     }
 
     public void addCompilationUnit(CompilationUnitWrapper compilationUnit) {
         compilationUnits.add(compilationUnit);
+        if (!compilationUnitLocations.containsKey(compilationUnit)) {
+            locationlessCompilationUnits.add(compilationUnit);
+        }
     }
 
     public void addCompilationUnits(Collection<CompilationUnitWrapper> compilationUnits) {
-        this.compilationUnits.addAll(compilationUnits);
+        for (CompilationUnitWrapper compilationUnit : compilationUnits) {
+            addCompilationUnit(compilationUnit);
+        }
+    }
+
+    /**
+     * Removes a compilation unit and its locations, e.g. because it is not needed after the rules
+     * have been applied to it.
+     *
+     * @param compilationUnit
+     *            the compilation unit to remove
+     */
+    public void removeCompilationUnit(CompilationUnitWrapper compilationUnit) {
+        compilationUnits.remove(compilationUnit);
+        locationlessCompilationUnits.remove(compilationUnit);
+        final Set<Path> paths = compilationUnitLocations.remove(compilationUnit);
+        if (paths == null) {
+            return;
+        }
+        for (Path path : paths) {
+            final Set<CompilationUnitWrapper> compUnits = compilationUnitsByLocation.get(path);
+            if (compUnits != null) {
+                compUnits.remove(compilationUnit);
+                if (compUnits.isEmpty()) {
+                    compilationUnitsByLocation.remove(path);
+                }
+            }
+        }
     }
 
     public Set<CompilationUnitWrapper> getCompilationUnits() {
@@ -160,6 +276,12 @@ public class RuleEngineBlackboard extends Blackboard<Object> {
         systemAssociations.put(path, Collections.unmodifiableSet(compilationUnits));
     }
 
+    public void addSystemAssociations(Map<Path, Set<CompilationUnitWrapper>> systemAssociations) {
+        for (Entry<Path, Set<CompilationUnitWrapper>> entry : systemAssociations.entrySet()) {
+            addSystemAssociations(entry.getKey(), entry.getValue());
+        }
+    }
+
     public Map<Path, Set<CompilationUnitWrapper>> getSystemAssociations() {
         return Collections.unmodifiableMap(systemAssociations);
     }
@@ -168,6 +290,24 @@ public class RuleEngineBlackboard extends Blackboard<Object> {
         systemPaths.put(system, path);
     }
 
+    /**
+     * Sets the index of the types in the jars on the classpath of the analyzed project.
+     * 
+     * @param typeSummaryIndex
+     *            the index over exactly the classpath of this analysis
+     */
+    public void setTypeSummaryIndex(TypeSummaryIndex typeSummaryIndex) {
+        this.typeSummaryIndex = typeSummaryIndex;
+    }
+
+    /**
+     * @return the index of the types in the jars on the classpath of the analyzed project, or
+     *         {@code null} if the classpath has not been resolved
+     */
+    public TypeSummaryIndex getTypeSummaryIndex() {
+        return typeSummaryIndex;
+    }
+
     public void setAnalysisResult(AnalysisResult analysisResult) {
         this.analysisResult = analysisResult;
     }
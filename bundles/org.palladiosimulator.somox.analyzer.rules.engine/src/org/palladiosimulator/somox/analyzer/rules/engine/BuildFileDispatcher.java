@@ -0,0 +1,127 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Passes build files only to the rules that subscribed to them via
+ * {@link IRule#getBuildFilePatterns()}. Plain file names are looked up directly, only real globs
+ * are matched with a {@link PathMatcher}.
+ */
+public class BuildFileDispatcher {
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+
+    private final List<IRule> rules;
+    private final Map<IRule, Set<String>> fileNames;
+    private final Map<IRule, List<PathMatcher>> matchers;
+
+    public BuildFileDispatcher(List<IRule> rules) {
+        this.rules = new ArrayList<>(rules);
+        this.fileNames = new HashMap<>();
+        this.matchers = new HashMap<>();
+        for (final IRule rule : rules) {
+            final Set<String> ruleFileNames = new HashSet<>();
+            final List<PathMatcher> ruleMatchers = new ArrayList<>();
+            for (final String pattern : rule.getBuildFilePatterns()) {
+                if (isGlob(pattern)) {
+                    ruleMatchers.add(FileSystems.getDefault()
+                        .getPathMatcher("glob:" + pattern));
+                } else {
+                    ruleFileNames.add(pattern);
+                }
+            }
+            fileNames.put(rule, ruleFileNames);
+            matchers.put(rule, ruleMatchers);
+        }
+    }
+
+    /**
+     * Returns whether any rule subscribed to build files at all.
+     *
+     * @return {@code false} if no file will ever be dispatched
+     */
+    public boolean hasSubscriptions() {
+        for (final IRule rule : rules) {
+            if (!fileNames.get(rule)
+                .isEmpty()
+                    || !matchers.get(rule)
+                        .isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the rules subscribed to the given file, in the order they were given in.
+     *
+     * @param path
+     *            the build file
+     * @return the subscribed rules or an empty list if there are none
+     */
+    public List<IRule> getSubscribers(Path path) {
+        final Path fileName = path.getFileName();
+        if (fileName == null) {
+            return Collections.emptyList();
+        }
+        final String name = fileName.toString();
+        List<IRule> subscribers = null;
+        for (final IRule rule : rules) {
+            if (isSubscribed(rule, name, fileName)) {
+                if (subscribers == null) {
+                    subscribers = new ArrayList<>();
+                }
+                subscribers.add(rule);
+            }
+        }
+        if (subscribers == null) {
+            return Collections.emptyList();
+        }
+        return subscribers;
+    }
+
+    /**
+     * Processes the given file with all rules subscribed to it.
+     *
+     * @param path
+     *            the build file
+     * @return whether any rule processed the file
+     */
+    public boolean dispatch(Path path) {
+        boolean processed = false;
+        for (final IRule rule : getSubscribers(path)) {
+            processed |= rule.processRules(path);
+        }
+        return processed;
+    }
+
+    private boolean isSubscribed(IRule rule, String name, Path fileName) {
+        if (fileNames.get(rule)
+            .contains(name)) {
+            return true;
+        }
+        for (final PathMatcher matcher : matchers.get(rule)) {
+            if (matcher.matches(fileName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGlob(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
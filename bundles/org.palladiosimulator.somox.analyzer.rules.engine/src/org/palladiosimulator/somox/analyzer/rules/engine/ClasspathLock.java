@@ -0,0 +1,50 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.emftext.language.java.JavaClasspath;
+
+/**
+ * Serializes the use of the JaMoPP {@link JavaClasspath}, which is global to the JVM. Parsing a
+ * project fills it and resolving the proxies of the parsed model reads it, so analyses running at
+ * the same time must not clear it while another one still needs it. With the
+ * {@link ProxyResolution#SELECTIVE selective} proxy resolution, the lock is held until the analysis
+ * is done, so analyses only run concurrently with the {@link ProxyResolution#FULL full} one.
+ *
+ * The lock is not bound to a thread, it may be released by another thread than the one that
+ * acquired it. Releasing it more than once has no effect.
+ */
+public final class ClasspathLock implements AutoCloseable {
+    private static final Semaphore PERMIT = new Semaphore(1, true);
+
+    private final AtomicBoolean released;
+
+    private ClasspathLock() {
+        this.released = new AtomicBoolean();
+    }
+
+    /**
+     * Waits until no other analysis uses the JaMoPP classpath and clears it for the caller.
+     *
+     * @return the lock, which has to be released once the parsed model has been resolved
+     */
+    public static ClasspathLock acquire() {
+        PERMIT.acquireUninterruptibly();
+        try {
+            JavaClasspath.get()
+                .clear();
+        } catch (final RuntimeException e) {
+            PERMIT.release();
+            throw e;
+        }
+        return new ClasspathLock();
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            PERMIT.release();
+        }
+    }
+}
@@ -1,107 +1,165 @@
 package org.palladiosimulator.somox.analyzer.rules.engine;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
 import org.apache.log4j.Logger;
-// import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 
 /**
- * The DockerParser parses a docker-compose file to extract a mapping between service names
+ * The DockerParser parses the docker-compose files to extract a mapping between service names
  * (microservices) and JaMoPP model instances. Later, this parser will be replaced with the project
  * in: https://github.com/PalladioSimulator/Palladio-ReverseEngineering-Docker
  */
 public class DockerParser {
     private final String FILE_NAME = "docker-compose";
-    private final Path path;
-    private final IPCMDetector pcmDetector;
+    private final String SHORT_FILE_NAME = "compose";
+    private final FileIndex files;
+    private final Collection<? extends IPCMDetector> pcmDetectors;
+    private final Map<String, Object> yamlDocuments;
     private final Map<String, List<CompilationUnitWrapper>> mapping;
 
     private static final Logger LOG = Logger.getLogger(DockerParser.class);
 
     public DockerParser(Path path, IPCMDetector pcmDetector) {
+        this(new FileIndex(path), List.of(pcmDetector));
+    }
+
+    /**
+     * Creates the mapping for the components of all given detectors, using an existing index of
+     * the project directory instead of traversing it again.
+     *
+     * @param files
+     *            the index of the project directory
+     * @param pcmDetectors
+     *            the detectors whose components are mapped to services
+     */
+    public DockerParser(FileIndex files, Collection<? extends IPCMDetector> pcmDetectors) {
+        this(files, pcmDetectors, Collections.emptyMap());
+    }
+
+    /**
+     * Creates the mapping for the components of all given detectors. The docker-compose files are
+     * taken from the already parsed {@code yamlDocuments}, only compose files missing there are
+     * read from disk.
+     *
+     * @param files
+     *            the index of the project directory
+     * @param pcmDetectors
+     *            the detectors whose components are mapped to services
+     * @param yamlDocuments
+     *            the parsed YAML documents by their absolute, normalized path
+     */
+    public DockerParser(FileIndex files, Collection<? extends IPCMDetector> pcmDetectors,
+            Map<String, Object> yamlDocuments) {
 
         LOG.info("starting docker process");
 
-        this.path = path;
-        this.pcmDetector = pcmDetector;
-        final InputStream input = getDockerFile();
-        final List<String> services = extractServiceNames(input);
+        this.files = files;
+        this.pcmDetectors = pcmDetectors;
+        this.yamlDocuments = yamlDocuments;
+        final List<Object> composeDocuments = getDockerFiles().stream()
+            .map(this::getComposeDocument)
+            .collect(Collectors.toList());
+        final List<String> services = extractServiceNames(composeDocuments);
         mapping = createServiceComponentMapping(services);
     }
 
     /**
-     * Returns a Stream to the docker-compose file found by walking through a given project
-     * directory.
+     * Returns all docker-compose files in the indexed project directory, including override files
+     * like {@code docker-compose.override.yml}.
      *
-     * @return the docker-compose file as stream
+     * @return the docker-compose files in the order they were found in
      */
-    private InputStream getDockerFile() {
-
-        List<Path> paths = new ArrayList<>();
-        try (Stream<Path> files = Files.walk(path)) {
-            paths = files.filter(f -> f.getFileName()
-                .toString()
-                .contains(FILE_NAME))
-                .collect(Collectors.toList());
-        } catch (final IOException e) {
-            e.printStackTrace();
-        }
-        if (paths.size() <= 0) {
+    private List<Path> getDockerFiles() {
+
+        final List<Path> paths = files.getFiles()
+            .stream()
+            .filter(f -> isDockerFile(f.getFileName()
+                .toString()))
+            .collect(Collectors.toList());
+        if (paths.isEmpty()) {
             LOG.info("No docker compose file detected.");
-            return null;
         }
-        final Path path = paths.get(0);
-
-        final File initialFile = path.toFile();
-        InputStream targetStream = null;
-        try {
-            targetStream = new FileInputStream(initialFile);
-            return targetStream;
-        } catch (final FileNotFoundException e) {
-            e.printStackTrace();
+        return paths;
+    }
+
+    private boolean isDockerFile(String fileName) {
+        final String lowerCaseName = fileName.toLowerCase();
+        if (!lowerCaseName.endsWith(".yml") && !lowerCaseName.endsWith(".yaml")) {
+            return false;
         }
-        return null;
+        return lowerCaseName.contains(FILE_NAME) || lowerCaseName.startsWith(SHORT_FILE_NAME + ".");
     }
 
     /**
-     * Extracts the service names within a docker-compose file.
+     * Returns the parsed docker-compose file. It is only read from disk if it has not been parsed
+     * before.
      *
-     * @param stream
+     * @param path
      *            the docker-compose file
-     * @return the list of all service names found in the docker-compose file
+     * @return the parsed document or {@code null} if it could not be read
+     */
+    private Object getComposeDocument(Path path) {
+        final String key = path.toAbsolutePath()
+            .normalize()
+            .toString();
+        if (yamlDocuments.containsKey(key)) {
+            return yamlDocuments.get(key);
+        }
+        try (Reader reader = Files.newBufferedReader(path)) {
+            return new Yaml().load(reader);
+        } catch (final IOException | YAMLException e) {
+            LOG.warn(String.format("%s could not be read correctly.", path), e);
+        }
+        return null;
+    }
+
+    /**
+     * Extracts the service names within the docker-compose files. Services defined in several
+     * files, e.g. in an override file, are only returned once.
+     *
+     * @param documents
+     *            the parsed docker-compose files
+     * @return the list of all service names found in the docker-compose files
      */
-    @SuppressWarnings("unchecked")
-    private List<String> extractServiceNames(InputStream stream) {
-        // final Yaml yaml = new Yaml();
-        final Map<String, Object> object = new HashMap<>(); // (Map<String, Object>)
-                                                            // yaml.load(stream);
-
-        // get all service names from the map
-        if (!object.containsKey("services")) {
-            LOG.info("No property with name 'services' in docker compose file. File not usable");
-            return new ArrayList<String>();
+    private List<String> extractServiceNames(List<Object> documents) {
+        final Set<String> serviceNames = new LinkedHashSet<>();
+        for (final Object document : documents) {
+            if (!(document instanceof Map<?, ?>)) {
+                continue;
+            }
+            // get all service names from the map
+            final Object services = ((Map<?, ?>) document).get("services");
+            if (!(services instanceof Map<?, ?>)) {
+                LOG.info("No property with name 'services' in docker compose file. File not usable");
+                continue;
+            }
+            for (final Object serviceName : ((Map<?, ?>) services).keySet()) {
+                serviceNames.add(String.valueOf(serviceName));
+            }
         }
-        final List<String> serviceNames = new ArrayList<>();
-        serviceNames.addAll(((Map<String, Object>) object.get("services")).keySet());
-        return serviceNames;
+        return new ArrayList<>(serviceNames);
     }
 
     /**
      * Creates a mapping between service names and JaMoPP model instances to know which component
-     * belongs to which microservice
+     * belongs to which microservice. The components of all detectors are merged, so a service may
+     * contain the components of several detectors. A component belongs to a service if the path of
+     * the first file named like the component, e.g. {@code Name.java}, contains the service name.
      *
      * @param serviceNames
      *            a list of all service names from a docker-compose file
@@ -109,34 +167,29 @@ public class DockerParser {
      */
     private Map<String, List<CompilationUnitWrapper>> createServiceComponentMapping(List<String> serviceNames) {
 
-        final List<CompilationUnitWrapper> components = pcmDetector.getWrappedComponents();
-
         final Map<String, List<CompilationUnitWrapper>> serviceToCompMapping = new HashMap<>();
+        if (serviceNames.isEmpty()) {
+            return serviceToCompMapping;
+        }
 
-        components.forEach(comp -> {
-            try (Stream<Path> files = Files.walk(path)) {
+        for (final IPCMDetector pcmDetector : pcmDetectors) {
+            for (final CompilationUnitWrapper comp : pcmDetector.getWrappedComponents()) {
                 // TODO try to find a more robust heuristic
-                final List<Path> foundPaths = files.filter(f -> f.toString()
-                    .contains(comp.getName()))
-                    .collect(Collectors.toList());
-
-                if (foundPaths.size() > 0) {
-                    serviceNames.forEach(serviceName -> {
-                        if (foundPaths.get(0)
-                            .toString()
-                            .contains(serviceName)) {
-                            if (!serviceToCompMapping.containsKey(serviceName)) {
-                                serviceToCompMapping.put(serviceName, new ArrayList<>());
-                            }
-                            serviceToCompMapping.get(serviceName)
-                                .add(comp);
-                        }
-                    });
+                final List<Path> foundPaths = files.getFilesWithStem(comp.getName());
+                if (foundPaths.isEmpty()) {
+                    continue;
+                }
+
+                final String foundPath = foundPaths.get(0)
+                    .toString();
+                for (final String serviceName : serviceNames) {
+                    if (foundPath.contains(serviceName)) {
+                        serviceToCompMapping.computeIfAbsent(serviceName, x -> new ArrayList<>())
+                            .add(comp);
+                    }
                 }
-            } catch (final Exception e) {
-                e.printStackTrace();
             }
-        });
+        }
 
         return serviceToCompMapping;
     }
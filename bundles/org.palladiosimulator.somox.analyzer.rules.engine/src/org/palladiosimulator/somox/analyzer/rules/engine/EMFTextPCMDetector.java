@@ -104,6 +104,24 @@ public class EMFTextPCMDetector implements IPCMDetector {
 
     }
 
+    /**
+     * Appends all detections of {@code other} to this detector, as if they had been detected after
+     * the detections already held by this detector.
+     *
+     * @param other
+     *            the detector to merge into this one
+     */
+    public void merge(EMFTextPCMDetector other) {
+        components.addAll(other.components);
+        other.providedRelations.forEach((unitName, relations) -> providedRelations
+            .computeIfAbsent(unitName, x -> new ArrayList<>())
+            .addAll(relations));
+        other.requiredInterfaces.forEach((unitName, variables) -> requiredInterfaces
+            .computeIfAbsent(unitName, x -> new ArrayList<>())
+            .addAll(variables));
+        other.operationInterfaces.forEach(this::detectOperationInterface);
+    }
+
     @Override
     public List<CompilationUnitWrapper> getWrappedComponents() {
         return CompilationUnitWrapper.wrap(components);
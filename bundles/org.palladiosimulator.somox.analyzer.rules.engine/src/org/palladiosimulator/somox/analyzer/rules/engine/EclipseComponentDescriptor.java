@@ -0,0 +1,60 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.nio.file.Path;
+
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * A component detected by the rules, identified by the first type of its compilation unit and the
+ * file the unit has been parsed from. Unlike the unit itself, it does not keep the AST and the
+ * binding environment of the parser alive. The unit can be looked up on the blackboard by its path
+ * as long as it is needed.
+ */
+public class EclipseComponentDescriptor {
+    private final String name;
+    private final String qualifiedName;
+    private final Path path;
+
+    private EclipseComponentDescriptor(AbstractTypeDeclaration type, Path path) {
+        name = type.getName()
+            .getIdentifier();
+        final ITypeBinding binding = type.resolveBinding();
+        qualifiedName = binding == null ? name : binding.getQualifiedName();
+        this.path = path;
+    }
+
+    /**
+     * @param type
+     *            the first type of the compilation unit
+     * @param path
+     *            the file of the compilation unit, {@code null} if it has none
+     * @return the descriptor of the component
+     */
+    public static EclipseComponentDescriptor of(AbstractTypeDeclaration type, Path path) {
+        return new EclipseComponentDescriptor(type, path);
+    }
+
+    /**
+     * @return the simple name of the first type of the compilation unit
+     */
+    public String getName() {
+        return name;
+    }
+
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * @return the file of the compilation unit, {@code null} if it has none
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return qualifiedName;
+    }
+}
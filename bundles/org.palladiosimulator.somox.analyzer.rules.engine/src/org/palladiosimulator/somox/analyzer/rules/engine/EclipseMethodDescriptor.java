@@ -0,0 +1,43 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * The signature of an {@link IMethodBinding}, without keeping the binding itself alive.
+ */
+public class EclipseMethodDescriptor {
+    private final String name;
+    private final List<EclipseTypeDescriptor> parameterTypes;
+    private final EclipseTypeDescriptor returnType;
+
+    private EclipseMethodDescriptor(IMethodBinding binding) {
+        name = binding.getName();
+        final ITypeBinding[] parameters = binding.getParameterTypes();
+        parameterTypes = new ArrayList<>(parameters.length);
+        for (final ITypeBinding parameter : parameters) {
+            parameterTypes.add(EclipseTypeDescriptor.of(parameter));
+        }
+        returnType = EclipseTypeDescriptor.of(binding.getReturnType());
+    }
+
+    public static EclipseMethodDescriptor of(IMethodBinding binding) {
+        return new EclipseMethodDescriptor(binding);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<EclipseTypeDescriptor> getParameterTypes() {
+        return Collections.unmodifiableList(parameterTypes);
+    }
+
+    public EclipseTypeDescriptor getReturnType() {
+        return returnType;
+    }
+}
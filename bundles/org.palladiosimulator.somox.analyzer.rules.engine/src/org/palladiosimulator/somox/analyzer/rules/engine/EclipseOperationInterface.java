@@ -0,0 +1,53 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * An operation interface detected by the rules, holding the signatures of all its declared methods.
+ * Only the names and signatures are kept, so the AST the interface has been detected in can be
+ * garbage-collected.
+ */
+public class EclipseOperationInterface {
+    private final String key;
+    private final String qualifiedName;
+    private final List<EclipseMethodDescriptor> methods;
+
+    private EclipseOperationInterface(ITypeBinding binding) {
+        key = binding.getKey();
+        qualifiedName = binding.getQualifiedName();
+        final IMethodBinding[] declaredMethods = binding.getDeclaredMethods();
+        methods = new ArrayList<>(declaredMethods.length);
+        for (final IMethodBinding method : declaredMethods) {
+            methods.add(EclipseMethodDescriptor.of(method));
+        }
+    }
+
+    public static EclipseOperationInterface of(ITypeBinding binding) {
+        return new EclipseOperationInterface(binding);
+    }
+
+    /**
+     * @return the binding key, which identifies the interface within one parser run
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    public List<EclipseMethodDescriptor> getMethods() {
+        return Collections.unmodifiableList(methods);
+    }
+
+    @Override
+    public String toString() {
+        return qualifiedName;
+    }
+}
@@ -1,9 +1,11 @@
 package org.palladiosimulator.somox.analyzer.rules.engine;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,27 +15,47 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclaration;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 
 /**
  * This class is used to detect and hold all relevant elements found during the processing of rules.
  * It provides methods to detect and retrieve PCM elements. After all rules are parsed, this class
  * holds the results as "simple" java objects not yet transformed to real PCM objects like PCM Basic
  * Components.
+ *
+ * No compilation units are kept. Components are stored by their names and paths, interfaces and
+ * required types by their names and signatures, so that the ASTs and bindings of all compilation
+ * units that are not needed anymore can be garbage-collected once the rules have been executed. The
+ * compilation units of components are looked up by their paths on the blackboard.
  */
 public class EclipsePCMDetector implements IPCMDetector {
-    private List<CompilationUnit> components = new ArrayList<>();
+    private final RuleEngineBlackboard blackboard;
+
+    private List<EclipseComponentDescriptor> components = new ArrayList<>();
+
+    private Set<Path> componentPaths = new HashSet<>();
 
     private Map<String, List<EclipseProvidesRelation>> providedRelations = new HashMap<>();
 
-    // TODO Is this a good solution or would a union be better?
-    private Map<String, List<List<VariableDeclaration>>> requiredInterfaces = new HashMap<>();
+    // The qualified type names of the required variables, by the name of the requiring unit
+    private Map<String, List<String>> requiredInterfaces = new HashMap<>();
+
+    // The operation interfaces by their binding keys, in the order of their detection
+    private Map<String, EclipseOperationInterface> operationInterfaces = new LinkedHashMap<>();
 
-    private Set<ITypeBinding> operationInterfaces = new HashSet<>();
+    /**
+     * @param blackboard
+     *            the blackboard the locations of the compilation units are registered on
+     */
+    public EclipsePCMDetector(RuleEngineBlackboard blackboard) {
+        this.blackboard = blackboard;
+    }
 
     private String getFullUnitName(CompilationUnit unit) {
         // TODO this is potentially problematic, maybe restructure
@@ -65,9 +87,16 @@ public class EclipsePCMDetector implements IPCMDetector {
     }
 
     public void detectComponent(CompilationUnit unit) {
+        // The unit is identified by its first type and its file, like by the wrapper's name
+        final Set<Path> paths = blackboard.getCompilationUnitLocations(new CompilationUnitWrapper(unit));
+        final Path path = paths.isEmpty() ? null
+                : paths.iterator()
+                    .next();
         for (Object type : unit.types()) {
             if (type instanceof TypeDeclaration) {
-                components.add(unit);
+                components.add(EclipseComponentDescriptor.of((AbstractTypeDeclaration) unit.types()
+                    .get(0), path));
+                componentPaths.addAll(paths);
             }
         }
     }
@@ -83,7 +112,7 @@ public class EclipsePCMDetector implements IPCMDetector {
 
     private void detectOperationInterface(AbstractTypeDeclaration type) {
         if (type instanceof TypeDeclaration) {
-            operationInterfaces.add(type.resolveBinding()
+            addOperationInterface(type.resolveBinding()
                 .getTypeDeclaration());
         }
     }
@@ -92,7 +121,15 @@ public class EclipsePCMDetector implements IPCMDetector {
         ITypeBinding binding = type.resolveBinding()
             .getTypeDeclaration();
         if (binding.isClass() || binding.isInterface()) {
-            operationInterfaces.add(binding);
+            addOperationInterface(binding);
+        }
+    }
+
+    private void addOperationInterface(ITypeBinding binding) {
+        // The signatures are only extracted once per interface
+        final String key = binding.getKey();
+        if (!operationInterfaces.containsKey(key)) {
+            operationInterfaces.put(key, EclipseOperationInterface.of(binding));
         }
     }
 
@@ -104,7 +141,7 @@ public class EclipsePCMDetector implements IPCMDetector {
         @SuppressWarnings("unchecked")
         List<VariableDeclaration> fragments = (List<VariableDeclaration>) field.fragments();
         requiredInterfaces.get(unitName)
-            .add(fragments);
+            .add(getTypeName(fragments.get(0)));
         detectOperationInterface(field.getType());
 
     }
@@ -115,11 +152,17 @@ public class EclipsePCMDetector implements IPCMDetector {
             requiredInterfaces.put(unitName, new ArrayList<>());
         }
         requiredInterfaces.get(unitName)
-            .add(List.of(parameter));
+            .add(getTypeName(parameter));
         detectOperationInterface(parameter.getType());
 
     }
 
+    private static String getTypeName(VariableDeclaration variable) {
+        IVariableBinding binding = variable.resolveBinding();
+        return binding.getType()
+            .getQualifiedName();
+    }
+
     public void detectProvidedInterface(CompilationUnit unit, IMethodBinding method) {
         detectProvidedInterface(unit, method.getDeclaringClass(), method);
     }
@@ -133,33 +176,92 @@ public class EclipsePCMDetector implements IPCMDetector {
             .add(new EclipseProvidesRelation(opI, method));
     }
 
+    /**
+     * Appends all detections of {@code other} to this detector, as if they had been detected after
+     * the detections already held by this detector.
+     *
+     * @param other
+     *            the detector to merge into this one
+     */
+    public void merge(EclipsePCMDetector other) {
+        components.addAll(other.components);
+        componentPaths.addAll(other.componentPaths);
+        other.providedRelations.forEach((unitName, relations) -> providedRelations
+            .computeIfAbsent(unitName, x -> new ArrayList<>())
+            .addAll(relations));
+        other.requiredInterfaces.forEach((unitName, variables) -> requiredInterfaces
+            .computeIfAbsent(unitName, x -> new ArrayList<>())
+            .addAll(variables));
+        other.operationInterfaces.forEach(operationInterfaces::putIfAbsent);
+    }
+
     @Override
     public List<CompilationUnitWrapper> getWrappedComponents() {
-        return CompilationUnitWrapper.wrap(components);
+        final List<CompilationUnitWrapper> wrappedComponents = new ArrayList<>(components.size());
+        for (EclipseComponentDescriptor component : components) {
+            final CompilationUnitWrapper wrappedComponent = getWrappedComponent(component);
+            if (wrappedComponent != null) {
+                wrappedComponents.add(wrappedComponent);
+            }
+        }
+        return wrappedComponents;
+    }
+
+    /**
+     * Looks up the compilation unit of a component on the blackboard.
+     *
+     * @param component
+     *            the component
+     * @return the compilation unit or {@code null} if it is not registered on the blackboard
+     *         anymore
+     */
+    protected CompilationUnitWrapper getWrappedComponent(EclipseComponentDescriptor component) {
+        for (CompilationUnitWrapper unit : blackboard.getCompilationUnitAt(component.getPath())) {
+            if (unit.isEclipseCompilationUnit() && unit.getName()
+                .equals(component.getName())) {
+                return unit;
+            }
+        }
+        return null;
     }
 
-    protected List<CompilationUnit> getComponents() {
+    /**
+     * Whether the compilation unit at {@code path} has been detected as a component, i.e. whether
+     * it is still needed after the rules have been executed.
+     *
+     * @param path
+     *            the file of the compilation unit
+     * @return whether the unit is a component
+     */
+    public boolean isComponent(Path path) {
+        return componentPaths.contains(path.normalize());
+    }
+
+    protected List<EclipseComponentDescriptor> getComponents() {
         return components;
     }
 
-    protected List<EclipseProvidesRelation> getProvidedInterfaces(CompilationUnit unit) {
-        final String name = getFullUnitName(unit);
+    protected List<EclipseProvidesRelation> getProvidedInterfaces(EclipseComponentDescriptor component) {
+        final String name = component.getName();
         if (providedRelations.get(name) == null) {
             return new ArrayList<>();
         }
         return providedRelations.get(name);
     }
 
-    protected List<List<VariableDeclaration>> getRequiredInterfaces(CompilationUnit unit) {
-        final String name = getFullUnitName(unit);
+    /**
+     * @return the qualified type names of the variables the component requires
+     */
+    protected List<String> getRequiredInterfaces(EclipseComponentDescriptor component) {
+        final String name = component.getName();
         if (requiredInterfaces.get(name) == null) {
             return new ArrayList<>();
         }
         return requiredInterfaces.get(name);
     }
 
-    protected List<ITypeBinding> getOperationInterfaces() {
-        return List.of(operationInterfaces.toArray(new ITypeBinding[0]));
+    protected List<EclipseOperationInterface> getOperationInterfaces() {
+        return List.copyOf(operationInterfaces.values());
     }
 
     @Override
@@ -170,16 +272,17 @@ public class EclipsePCMDetector implements IPCMDetector {
         sb.append("\tcomponents: {\n");
         components.forEach(comp -> {
             sb.append("\t\t");
-            sb.append(getFullUnitName(comp));
+            sb.append(comp.getName());
             sb.append("\n");
         });
 
         sb.append("\t}\n\tinterfaces: {\n");
-        operationInterfaces.forEach(op -> {
-            sb.append("\t\t");
-            sb.append(op.getQualifiedName());
-            sb.append("\n");
-        });
+        operationInterfaces.values()
+            .forEach(op -> {
+                sb.append("\t\t");
+                sb.append(op.getQualifiedName());
+                sb.append("\n");
+            });
 
         sb.append("\t}\n\tprovided relations: {\n");
         sb.append(mapToString(providedRelations, 2));
@@ -1,6 +1,5 @@
 package org.palladiosimulator.somox.analyzer.rules.engine;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,12 +7,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
-import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
-import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.IVariableBinding;
-import org.eclipse.jdt.core.dom.VariableDeclaration;
 import org.palladiosimulator.pcm.repository.BasicComponent;
 import org.palladiosimulator.pcm.repository.CollectionDataType;
 import org.palladiosimulator.pcm.repository.DataType;
@@ -59,9 +54,9 @@ public class EclipsePCMInstanceCreator {
      * @return the PCM repository model
      */
     public Repository createPCM(Map<String, List<CompilationUnitWrapper>> mapping) {
-        final List<CompilationUnit> components = blackboard.getEclipsePCMDetector()
+        final List<EclipseComponentDescriptor> components = blackboard.getEclipsePCMDetector()
             .getComponents();
-        final List<ITypeBinding> interfaces = blackboard.getEclipsePCMDetector()
+        final List<EclipseOperationInterface> interfaces = blackboard.getEclipsePCMDetector()
             .getOperationInterfaces();
 
         createPCMInterfaces(interfaces);
@@ -73,25 +68,25 @@ public class EclipsePCMInstanceCreator {
         return repo;
     }
 
-    private void createPCMInterfaces(List<ITypeBinding> interfaces) {
+    private void createPCMInterfaces(List<EclipseOperationInterface> interfaces) {
         interfaces.forEach(inter -> {
             LOG.info("Current PCM Interface: " + inter.getQualifiedName());
 
             OperationInterfaceCreator pcmInterface = create.newOperationInterface()
-                .withName(wrapName(inter));
+                .withName(wrapName(inter.getQualifiedName()));
 
-            for (final IMethodBinding m : inter.getDeclaredMethods()) {
+            for (final EclipseMethodDescriptor m : inter.getMethods()) {
                 OperationSignatureCreator signature = create.newOperationSignature()
                     .withName(m.getName());
 
                 // parameter type
-                for (final ITypeBinding p : m.getParameterTypes()) {
+                for (final EclipseTypeDescriptor p : m.getParameterTypes()) {
                     signature = handleSignatureDataType(signature, p.getName(), p, p.getDimensions(), false);
                 }
 
                 // Return type: Cast Method Return Type to Variable
                 // OrdinaryParameterImpl is sufficient since return types cannot be varargs.
-                ITypeBinding rt = m.getReturnType();
+                EclipseTypeDescriptor rt = m.getReturnType();
                 signature = handleSignatureDataType(signature, "", rt, rt.getDimensions(), true);
 
                 pcmInterface.withOperationSignature(signature);
@@ -101,42 +96,44 @@ public class EclipsePCMInstanceCreator {
         });
     }
 
-    private void createPCMComponents(List<CompilationUnit> components) {
-        for (final CompilationUnit comp : components) {
-            AbstractTypeDeclaration firstTypeDecl = (AbstractTypeDeclaration) comp.types()
-                .get(0);
+    private void createPCMComponents(List<EclipseComponentDescriptor> components) {
+        final EclipsePCMDetector pcmDetector = blackboard.getEclipsePCMDetector();
+        for (final EclipseComponentDescriptor comp : components) {
             BasicComponentCreator pcmComp = create.newBasicComponent()
-                .withName(wrapName(firstTypeDecl.resolveBinding()));
+                .withName(wrapName(comp.getQualifiedName()));
 
-            final List<EclipseProvidesRelation> providedRelations = blackboard.getEclipsePCMDetector()
-                .getProvidedInterfaces(comp);
+            final List<EclipseProvidesRelation> providedRelations = pcmDetector.getProvidedInterfaces(comp);
 
-            Set<ITypeBinding> realInterfaces = providedRelations.stream()
+            Set<String> realInterfaces = providedRelations.stream()
                 .map(relation -> relation.getOperationInterface())
                 .collect(Collectors.toSet());
-            for (ITypeBinding realInterface : realInterfaces) {
+            for (String realInterface : realInterfaces) {
                 pcmComp.provides(create.fetchOfOperationInterface(wrapName(realInterface)), "dummy name");
             }
 
-            final List<List<VariableDeclaration>> requiredIs = blackboard.getEclipsePCMDetector()
-                .getRequiredInterfaces(comp);
-            Set<ITypeBinding> requireInterfaces = requiredIs.stream()
-                .map(variable -> variable.get(0)
-                    .resolveBinding()
-                    .getType())
-                .collect(Collectors.toSet());
+            final List<String> requiredIs = pcmDetector.getRequiredInterfaces(comp);
+            Set<String> requireInterfaces = Set.copyOf(requiredIs);
 
-            for (ITypeBinding requInter : requireInterfaces) {
+            for (String requInter : requireInterfaces) {
                 pcmComp.requires(create.fetchOfOperationInterface(wrapName(requInter)), "dummy require name");
             }
             BasicComponent builtComp = pcmComp.build();
-            blackboard.putRepositoryComponentLocation(builtComp, new CompilationUnitWrapper(comp));
+            final CompilationUnitWrapper location = pcmDetector.getWrappedComponent(comp);
+            if (location != null) {
+                blackboard.putRepositoryComponentLocation(builtComp, location);
+            } else {
+                LOG.warn("The compilation unit of " + comp.getQualifiedName() + " is not on the blackboard anymore");
+            }
             repository.addToRepository(builtComp);
         }
     }
 
     private static Primitive convertPrimitive(ITypeBinding primT) {
-        switch (primT.getQualifiedName()) {
+        return convertPrimitive(primT.getQualifiedName());
+    }
+
+    private static Primitive convertPrimitive(String primitiveName) {
+        switch (primitiveName) {
         case "boolean":
             return Primitive.BOOLEAN;
         case "byte":
@@ -161,7 +158,7 @@ public class EclipsePCMInstanceCreator {
     }
 
     private OperationSignatureCreator handleSignatureDataType(OperationSignatureCreator signature, String varName,
-            ITypeBinding var, int varDimensions, boolean asReturnType) {
+            EclipseTypeDescriptor var, int varDimensions, boolean asReturnType) {
 
         // Parameter is a collection (extends Collection, is an array or a vararg)
         DataType collectionType = handleCollectionType(var, varDimensions);
@@ -203,7 +200,7 @@ public class EclipsePCMInstanceCreator {
         return null;
     }
 
-    private DataType handleCollectionType(ITypeBinding ref, int dimensions) {
+    private DataType handleCollectionType(EclipseTypeDescriptor ref, int dimensions) {
         // Base for the name of the collection data type
         String typeName = wrapName(ref);
 
@@ -212,7 +209,7 @@ public class EclipsePCMInstanceCreator {
 
         if (dimensions != 0) {
             if (ref.isPrimitive()) {
-                typeName = convertPrimitive(ref).name();
+                typeName = convertPrimitive(ref.getQualifiedName()).name();
             }
             collectionTypeName = typeName;
 
@@ -224,9 +221,9 @@ public class EclipsePCMInstanceCreator {
         }
         // TODO: I do not think this works properly for deeper collection types (e.g.
         // List<String>[]), especially the naming.
-        else if (isCollectionType(ref)) {
+        else if (ref.isCollection()) {
             typeName = wrapName(ref);
-            for (ITypeBinding typeArg : ref.getTypeArguments()) {
+            for (EclipseTypeDescriptor typeArg : ref.getTypeArguments()) {
                 String argumentTypeName = wrapName(typeArg);
                 collectionTypeName = typeName + "<" + argumentTypeName + ">";
 
@@ -247,7 +244,7 @@ public class EclipsePCMInstanceCreator {
         return collectionType;
     }
 
-    private CollectionDataType createCollectionWithTypeArg(String collectionTypeName, ITypeBinding typeArg,
+    private CollectionDataType createCollectionWithTypeArg(String collectionTypeName, EclipseTypeDescriptor typeArg,
             int typeArgDimensions) {
         // Type argument is primitive
         Primitive primitiveArg = handlePrimitive(typeArg);
@@ -271,34 +268,9 @@ public class EclipsePCMInstanceCreator {
         return null;
     }
 
-    private static boolean isCollectionType(ITypeBinding varClassifier) {
-
-        List<ITypeBinding> refs = new ArrayList<>();
-
-        if (varClassifier.isClass()) {
-            refs.addAll(List.of(varClassifier.getInterfaces()));
-        } else if (varClassifier.isInterface()) {
-            if (varClassifier.getQualifiedName()
-                .equals("java.util.Collection")) {
-                return true;
-            } else {
-                refs.addAll(List.of(varClassifier.getInterfaces()));
-            }
-        }
-
-        for (ITypeBinding ref : refs) {
-            if (ref.getQualifiedName()
-                .equals("java.util.Collection")) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private static Primitive handlePrimitive(ITypeBinding var) {
+    private static Primitive handlePrimitive(EclipseTypeDescriptor var) {
         if (var.isPrimitive()) {
-            return convertPrimitive(var);
+            return convertPrimitive(var.getQualifiedName());
         }
         // Parameter is String, which counts for PCM as Primitive
         if (var.getQualifiedName()
@@ -308,7 +280,7 @@ public class EclipsePCMInstanceCreator {
         return null;
     }
 
-    private DataType handleCompositeType(ITypeBinding ref) {
+    private DataType handleCompositeType(EclipseTypeDescriptor ref) {
         String classifierName = wrapName(ref);
 
         if (!existingDataTypesMap.containsKey(classifierName)) {
@@ -324,12 +296,12 @@ public class EclipsePCMInstanceCreator {
 
     // TODO creation of CompositeDataTypes
     private CompositeDataTypeCreator createTypesRecursively(ITypeBinding type) {
-        if (existingDataTypesMap.containsKey(wrapName(type))) {
-            return existingDataTypesMap.get(wrapName(type));
+        if (existingDataTypesMap.containsKey(wrapName(type.getQualifiedName()))) {
+            return existingDataTypesMap.get(wrapName(type.getQualifiedName()));
         }
 
         CompositeDataTypeCreator currentDataType = create.newCompositeDataType()
-            .withName(wrapName(type));
+            .withName(wrapName(type.getQualifiedName()));
         for (IVariableBinding f : type.getDeclaredFields()) {
 
             if (f.getType()
@@ -355,9 +327,12 @@ public class EclipsePCMInstanceCreator {
         return currentDataType;
     }
 
-    private static String wrapName(ITypeBinding name) {
-        String fullName = name.getQualifiedName()
-            .replace(".", "_");
+    private static String wrapName(EclipseTypeDescriptor name) {
+        return wrapName(name.getQualifiedName());
+    }
+
+    private static String wrapName(String qualifiedName) {
+        String fullName = qualifiedName.replace(".", "_");
         // Erase type parameters in identifiers
         // TODO is this the right solution?
         if (fullName.contains("<")) {
@@ -5,19 +5,20 @@ import org.eclipse.jdt.core.dom.ITypeBinding;
 
 // Encapsulates the operation interface and method a component is providing.
 // This class is required because a method from the java model itself does not contain a reference to the interface it comes from like variables do.
+// Only the qualified name of the interface and the binding key of the method are kept, so that the bindings can be garbage-collected.
 public class EclipseProvidesRelation {
-    private final ITypeBinding operationInterface;
-    private final IMethodBinding method;
+    private final String operationInterface;
+    private final String method;
 
     public EclipseProvidesRelation(ITypeBinding opI, IMethodBinding method) {
         super();
-        this.operationInterface = opI;
-        this.method = method;
+        this.operationInterface = opI.getQualifiedName();
+        this.method = method.getKey();
     }
 
     @Override
     public String toString() {
-        return (operationInterface.getQualifiedName() + ": " + method.toString());
+        return (operationInterface + ": " + method);
     }
 
     @Override
@@ -43,11 +44,17 @@ public class EclipseProvidesRelation {
         return true;
     }
 
-    public ITypeBinding getOperationInterface() {
+    /**
+     * @return the qualified name of the operation interface
+     */
+    public String getOperationInterface() {
         return operationInterface;
     }
 
-    public IMethodBinding getMethod() {
+    /**
+     * @return the binding key of the provided method
+     */
+    public String getMethod() {
         return method;
     }
 
@@ -3,6 +3,7 @@ package org.palladiosimulator.somox.analyzer.rules.engine;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -235,6 +236,18 @@ public class EclipseRuleHelper {
     }
 
     public static boolean isParameterAClassAnnotatedWith(SingleVariableDeclaration parameter, String... names) {
+        return isParameterAClassAnnotatedWith(null, parameter, names);
+    }
+
+    /**
+     * Checks whether the class of a parameter is annotated with one of the names. Classes from jars
+     * are looked up in {@code index} instead of resolving their annotation bindings.
+     *
+     * @param index
+     *            the index over the classpath of the analysis, may be {@code null}
+     */
+    public static boolean isParameterAClassAnnotatedWith(TypeSummaryIndex index, SingleVariableDeclaration parameter,
+            String... names) {
         Type type = parameter.getType();
         ITypeBinding binding = type.resolveBinding();
 
@@ -244,6 +257,12 @@ public class EclipseRuleHelper {
             return false;
         }
 
+        final Optional<TypeSummary> summary = findBinaryType(index, binding);
+        if (summary.isPresent()) {
+            return summary.get()
+                .isAnnotatedWith(names);
+        }
+
         for (final String name : names) {
             for (IAnnotationBinding anno : binding.getAnnotations()) {
                 if (anno.getName()
@@ -428,9 +447,27 @@ public class EclipseRuleHelper {
     }
 
     public static boolean isClassOfFieldAnnotatedWithName(FieldDeclaration field, String... names) {
-        IAnnotationBinding[] annotations = field.getType()
-            .resolveBinding()
-            .getAnnotations();
+        return isClassOfFieldAnnotatedWithName(null, field, names);
+    }
+
+    /**
+     * Checks whether the class of a field is annotated with one of the names. Classes from jars are
+     * looked up in {@code index} instead of resolving their annotation bindings.
+     *
+     * @param index
+     *            the index over the classpath of the analysis, may be {@code null}
+     */
+    public static boolean isClassOfFieldAnnotatedWithName(TypeSummaryIndex index, FieldDeclaration field,
+            String... names) {
+        ITypeBinding binding = field.getType()
+            .resolveBinding();
+        final Optional<TypeSummary> summary = findBinaryType(index, binding);
+        if (summary.isPresent()) {
+            return summary.get()
+                .isAnnotatedWith(names);
+        }
+
+        IAnnotationBinding[] annotations = binding.getAnnotations();
         Set<String> uniqueNames = Set.of(names);
 
         return List.of(annotations)
@@ -438,4 +475,19 @@ public class EclipseRuleHelper {
             .map(IAnnotationBinding::getName)
             .anyMatch(uniqueNames::contains);
     }
-}
\ No newline at end of file
+
+    /**
+     * Looks up a type from a jar in the index of the analysis, which avoids resolving the
+     * annotation bindings of the jar.
+     */
+    private static Optional<TypeSummary> findBinaryType(TypeSummaryIndex index, ITypeBinding binding) {
+        if (binding == null || binding.isFromSource() || binding.isRecovered()) {
+            return Optional.empty();
+        }
+        if (index == null || index.isEmpty()) {
+            return Optional.empty();
+        }
+        return index.find(binding.getErasure()
+            .getQualifiedName());
+    }
+}
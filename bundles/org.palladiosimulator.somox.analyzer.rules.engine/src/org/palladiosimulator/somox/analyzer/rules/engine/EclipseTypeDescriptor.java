@@ -0,0 +1,106 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * The parts of an {@link ITypeBinding} that are needed to create PCM data types. Unlike the binding
+ * itself, it does not keep the AST and the binding environment of the parser alive.
+ */
+public class EclipseTypeDescriptor {
+    private static final String COLLECTION = "java.util.Collection";
+
+    private final String key;
+    private final String name;
+    private final String qualifiedName;
+    private final int dimensions;
+    private final boolean primitive;
+    private final boolean collection;
+    private final List<EclipseTypeDescriptor> typeArguments;
+
+    private EclipseTypeDescriptor(ITypeBinding binding) {
+        key = binding.getKey();
+        name = binding.getName();
+        qualifiedName = binding.getQualifiedName();
+        dimensions = binding.getDimensions();
+        primitive = binding.isPrimitive();
+        collection = isCollectionType(binding);
+        final ITypeBinding[] arguments = binding.getTypeArguments();
+        if (arguments.length == 0) {
+            typeArguments = Collections.emptyList();
+        } else {
+            typeArguments = new ArrayList<>(arguments.length);
+            for (final ITypeBinding argument : arguments) {
+                typeArguments.add(new EclipseTypeDescriptor(argument));
+            }
+        }
+    }
+
+    public static EclipseTypeDescriptor of(ITypeBinding binding) {
+        return new EclipseTypeDescriptor(binding);
+    }
+
+    /**
+     * Whether the type is or directly implements {@code java.util.Collection}.
+     */
+    private static boolean isCollectionType(ITypeBinding binding) {
+        final List<ITypeBinding> refs = new ArrayList<>();
+
+        if (binding.isClass()) {
+            refs.addAll(List.of(binding.getInterfaces()));
+        } else if (binding.isInterface()) {
+            if (binding.getQualifiedName()
+                .equals(COLLECTION)) {
+                return true;
+            }
+            refs.addAll(List.of(binding.getInterfaces()));
+        }
+
+        for (final ITypeBinding ref : refs) {
+            if (ref.getQualifiedName()
+                .equals(COLLECTION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the binding key, which identifies the type within one parser run
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    public boolean isCollection() {
+        return collection;
+    }
+
+    public List<EclipseTypeDescriptor> getTypeArguments() {
+        return Collections.unmodifiableList(typeArguments);
+    }
+
+    @Override
+    public String toString() {
+        return qualifiedName;
+    }
+}
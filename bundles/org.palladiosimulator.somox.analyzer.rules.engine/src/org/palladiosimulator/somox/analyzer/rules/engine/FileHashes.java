@@ -0,0 +1,83 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SHA-256 hashes of files that rarely change, e.g. of dependency jars. A hash is cached by the
+ * path, size and modification time of its file, so every jar is only read once in this JVM, no
+ * matter how many analyses and classpaths contain it.
+ */
+public final class FileHashes {
+    private static final int BUFFER_SIZE = 8192;
+    private static final Map<Path, CachedHash> HASHES = new ConcurrentHashMap<>();
+
+    private FileHashes() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns the SHA-256 hash of a file, reading it only if it changed since it was last hashed.
+     *
+     * @param file
+     *            the file to hash
+     * @return the hash as lower-case hex digits
+     * @throws IOException
+     *             if the file cannot be read
+     */
+    public static String hash(Path file) throws IOException {
+        final Path normalized = file.toAbsolutePath()
+            .normalize();
+        final BasicFileAttributes attributes = Files.readAttributes(normalized, BasicFileAttributes.class);
+        final long size = attributes.size();
+        final long modified = attributes.lastModifiedTime()
+            .toMillis();
+        final CachedHash cached = HASHES.get(normalized);
+        if (cached != null && cached.size == size && cached.modified == modified) {
+            return cached.hash;
+        }
+        final String hash = computeHash(normalized);
+        HASHES.put(normalized, new CachedHash(size, modified, hash));
+        return hash;
+    }
+
+    private static String computeHash(Path file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static final class CachedHash {
+        private final long size;
+        private final long modified;
+        private final String hash;
+
+        CachedHash(long size, long modified, String hash) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+        }
+    }
+}
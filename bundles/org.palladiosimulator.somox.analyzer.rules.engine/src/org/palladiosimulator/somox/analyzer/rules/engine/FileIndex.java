@@ -0,0 +1,122 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+
+/**
+ * An index of all regular files below a project directory. The directory is only traversed once,
+ * afterwards files can be looked up by their name or by a suffix of their path without accessing
+ * the file system again.
+ */
+public class FileIndex {
+    private static final Logger LOG = Logger.getLogger(FileIndex.class);
+
+    private final Path root;
+    private final List<Path> files;
+    private final Map<String, List<Path>> filesByName;
+    private final Map<String, List<Path>> filesByStem;
+
+    public FileIndex(Path root) {
+        this.root = root;
+        List<Path> foundFiles;
+        try (Stream<Path> paths = Files.walk(root)) {
+            foundFiles = paths.filter(Files::isRegularFile)
+                .collect(Collectors.toList());
+        } catch (final IOException e) {
+            LOG.warn("An IOException occurred while indexing the files in " + root, e);
+            foundFiles = new ArrayList<>();
+        }
+        this.files = Collections.unmodifiableList(foundFiles);
+        this.filesByName = new HashMap<>();
+        this.filesByStem = new HashMap<>();
+        for (final Path file : files) {
+            final String fileName = file.getFileName()
+                .toString();
+            filesByName.computeIfAbsent(fileName, x -> new ArrayList<>())
+                .add(file);
+            filesByStem.computeIfAbsent(getStem(fileName), x -> new ArrayList<>())
+                .add(file);
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns all regular files below the root directory.
+     *
+     * @return the files in the order they were found in
+     */
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    /**
+     * Returns all files with exactly the given file name.
+     *
+     * @param fileName
+     *            the name of the files, e.g. {@code pom.xml}
+     * @return the files with that name or an empty list if there are none
+     */
+    public List<Path> getFilesNamed(String fileName) {
+        final List<Path> namedFiles = filesByName.get(fileName);
+        if (namedFiles == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(namedFiles);
+    }
+
+    /**
+     * Returns all files with the given name without their extension, e.g. {@code Main} for
+     * {@code Main.java}.
+     *
+     * @param stem
+     *            the name of the files without the extension
+     * @return the files with that stem in the order they were found in or an empty list if there
+     *         are none
+     */
+    public List<Path> getFilesWithStem(String stem) {
+        final List<Path> stemFiles = filesByStem.get(stem);
+        if (stemFiles == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(stemFiles);
+    }
+
+    /**
+     * Returns all files whose path ends with the given {@code suffix}, compared by path elements
+     * as with {@link Path#endsWith(Path)}.
+     *
+     * @param suffix
+     *            the relative suffix, e.g. {@code org/example/Main.java}
+     * @return the files ending with the suffix or an empty list if there are none
+     */
+    public List<Path> getFilesEndingWith(Path suffix) {
+        final Path fileName = suffix.getFileName();
+        if (fileName == null) {
+            return Collections.emptyList();
+        }
+        return getFilesNamed(fileName.toString()).stream()
+            .filter(file -> file.endsWith(suffix))
+            .collect(Collectors.toList());
+    }
+
+    private static String getStem(String fileName) {
+        final int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart <= 0) {
+            return fileName;
+        }
+        return fileName.substring(0, extensionStart);
+    }
+}
@@ -1,6 +1,8 @@
 package org.palladiosimulator.somox.analyzer.rules.engine;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
 
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 
@@ -10,6 +12,11 @@ import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboar
 */
 public abstract class IRule {
     
+    /**
+     * The build file pattern matching every file name.
+     */
+    public static final String ALL_FILES = "*";
+
     protected RuleEngineBlackboard blackboard;
     
     public IRule(RuleEngineBlackboard blackboard) {
@@ -17,4 +24,49 @@ public abstract class IRule {
     }
     
     public abstract boolean processRules(Path path);
-}
\ No newline at end of file
+
+    /**
+     * Returns whether this rule is safe to be executed concurrently with other instances of it, each
+     * working on its own shard of the blackboard. This is the case if the rule keeps no state
+     * between calls of {@link #processRules(Path)} and only reads from the shared parts of the
+     * blackboard, including the partitions. Reading must not have side effects either, like
+     * resolving bindings or proxies lazily. Rules are only executed in parallel if all selected
+     * rules that process compilation units are thread-safe.
+     *
+     * Rules on the JaMoPP model can be thread-safe, since the model is fully resolved for a
+     * parallel execution, see {@link ProxyResolution#forParallelism(int)}. Rules on JDT ASTs are
+     * not, since the ASTs of a parser batch share a binding environment that resolves bindings
+     * lazily without synchronization.
+     *
+     * @return whether this rule may be executed in parallel
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Returns the file name patterns of the build files this rule wants to process, e.g.
+     * {@code pom.xml} or {@code *.gradle}. A pattern is either a plain file name or a glob as
+     * understood by {@link java.nio.file.FileSystem#getPathMatcher(String)}, and is matched against
+     * the file name only. Files that are not compilation units are only passed to
+     * {@link #processRules(Path)} if their name matches one of these patterns.
+     *
+     * By default, a rule receives every file, as it did before rules could subscribe to build
+     * files. Rules should narrow this down. Rules that only process compilation units, like the
+     * Spring and JAX-RS rules, return an empty set, so that build files are not passed to them.
+     *
+     * @return the build file patterns, {@link #ALL_FILES} to receive every file
+     */
+    public Set<String> getBuildFilePatterns() {
+        return Collections.singleton(ALL_FILES);
+    }
+
+    /**
+     * Is called once after all compilation units and build files have been processed by
+     * {@link #processRules(Path)}. Rules that collect build files can evaluate them here at once
+     * instead of for each file. In a parallel execution, this is only called for the instance that
+     * processed the build files.
+     */
+    public void finish() {
+    }
+}
@@ -0,0 +1,189 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.emftext.language.java.containers.ContainersPackage;
+
+/**
+ * The file formats the JaMoPP models ({@code model.containers} and {@code .jdt}) can be persisted
+ * in. The file names stay the same for all formats, {@link #load(ResourceSet, URI)} detects the
+ * format of an existing file from its first bytes.
+ */
+public enum ModelFormat {
+    /**
+     * Plain XMI, readable by every EMF tool.
+     */
+    XMI,
+    /**
+     * XMI in a zip archive, which is several times smaller for large models.
+     */
+    XMI_ZIP,
+    /**
+     * The EMF binary format, which is the fastest to save and to load.
+     */
+    BINARY;
+
+    private static final Logger LOG = Logger.getLogger(ModelFormat.class);
+
+    /**
+     * The first bytes of a file in the EMF binary format.
+     */
+    private static final byte[] BINARY_SIGNATURE = { (byte) 0x89, 'e', 'm', 'f', '\n', '\r', 0x1a, '\n' };
+    private static final byte[] ZIP_SIGNATURE = { 'P', 'K', 0x03, 0x04 };
+
+    /**
+     * Flush the XMI writer every so many bytes, so that large models are not buffered in memory as
+     * a whole.
+     */
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    /**
+     * Parses a format name, ignoring case and accepting dashes instead of underscores.
+     *
+     * @param name
+     *            the name of the format, e.g. {@code xmi-zip}
+     * @return the format, or {@link #XMI} if the name is {@code null} or unknown
+     */
+    public static ModelFormat parse(String name) {
+        if (name == null || name.isBlank()) {
+            return XMI;
+        }
+        try {
+            return valueOf(name.strip()
+                .toUpperCase(Locale.US)
+                .replace('-', '_'));
+        } catch (final IllegalArgumentException e) {
+            LOG.warn("Unknown model format \"" + name + "\", using " + XMI + " instead. Supported formats: "
+                    + Arrays.toString(values()));
+            return XMI;
+        }
+    }
+
+    /**
+     * Creates an empty resource that is saved in this format.
+     *
+     * @param uri
+     *            the URI of the resource
+     * @return the resource
+     */
+    public Resource createResource(URI uri) {
+        if (this == BINARY) {
+            return new BinaryResourceImpl(uri);
+        }
+        return new XMIResourceImpl(uri);
+    }
+
+    /**
+     * Returns the options to save resources created by {@link #createResource(URI)} with.
+     */
+    public Map<String, Object> getSaveOptions() {
+        final Map<String, Object> options = new HashMap<>();
+        if (this == BINARY) {
+            options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_1);
+            return options;
+        }
+        options.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, new ArrayList<>());
+        options.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+        options.put(XMLResource.OPTION_FLUSH_THRESHOLD, FLUSH_THRESHOLD);
+        if (this == XMI_ZIP) {
+            options.put(Resource.OPTION_ZIP, Boolean.TRUE);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the options to load a resource in this format with.
+     */
+    public Map<String, Object> getLoadOptions() {
+        final Map<String, Object> options = new HashMap<>();
+        if (this == BINARY) {
+            return options;
+        }
+        options.put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE);
+        options.put(XMLResource.OPTION_USE_PARSER_POOL, new XMLParserPoolImpl());
+        options.put(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP, new HashMap<>());
+        options.put(XMLResource.OPTION_USE_DEPRECATED_METHODS, Boolean.FALSE);
+        if (this == XMI_ZIP) {
+            options.put(Resource.OPTION_ZIP, Boolean.TRUE);
+        }
+        return options;
+    }
+
+    /**
+     * Detects the format of an existing file.
+     *
+     * @param converter
+     *            the converter to open the file with
+     * @param uri
+     *            the URI of the file
+     * @return the format of the file, {@link #XMI} if it is neither binary nor zipped
+     * @throws IOException
+     *             if the file cannot be read
+     */
+    public static ModelFormat detect(URIConverter converter, URI uri) throws IOException {
+        final byte[] header = new byte[BINARY_SIGNATURE.length];
+        int length = 0;
+        try (InputStream input = converter.createInputStream(uri)) {
+            int read;
+            while (length < header.length && (read = input.read(header, length, header.length - length)) != -1) {
+                length += read;
+            }
+        }
+        if (startsWith(header, length, BINARY_SIGNATURE)) {
+            return BINARY;
+        }
+        if (startsWith(header, length, ZIP_SIGNATURE)) {
+            return XMI_ZIP;
+        }
+        return XMI;
+    }
+
+    /**
+     * Loads a JaMoPP model in whatever format it has been saved in.
+     *
+     * @param resourceSet
+     *            the resource set to load the model into
+     * @param uri
+     *            the URI of the model file
+     * @return the loaded resource
+     * @throws IOException
+     *             if the model cannot be read
+     */
+    public static Resource load(ResourceSet resourceSet, URI uri) throws IOException {
+        resourceSet.getPackageRegistry()
+            .put(ContainersPackage.eNS_URI, ContainersPackage.eINSTANCE);
+        final ModelFormat format = detect(resourceSet.getURIConverter(), uri);
+        final Resource resource = format.createResource(uri);
+        resourceSet.getResources()
+            .add(resource);
+        resource.load(format.getLoadOptions());
+        return resource;
+    }
+
+    private static boolean startsWith(byte[] header, int length, byte[] signature) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
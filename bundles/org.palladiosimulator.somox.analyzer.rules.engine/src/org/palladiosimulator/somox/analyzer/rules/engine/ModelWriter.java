@@ -0,0 +1,137 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Saves models on a dedicated I/O thread, so that the analysis can go on while they are written.
+ * A model must not be modified anymore once its write has been submitted, reading it is fine.
+ *
+ * Failed writes are not logged away, but thrown by {@link #awaitCompletion()}, which has to be
+ * called before the output is used.
+ */
+public class ModelWriter implements AutoCloseable {
+    private static final Logger LOG = Logger.getLogger(ModelWriter.class);
+    private static final String THREAD_NAME = "Rule Engine Model Writer";
+
+    /**
+     * A write of a model, usually a call to {@link org.eclipse.emf.ecore.resource.Resource#save}.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    private final ExecutorService executor;
+    private final List<Future<?>> pendingWrites;
+
+    public ModelWriter() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pendingWrites = new ArrayList<>();
+    }
+
+    /**
+     * Queues a write. It is executed after all writes submitted before.
+     *
+     * @param description
+     *            what is written, e.g. the file name, for the log and the error message
+     * @param write
+     *            the write
+     */
+    public void submit(String description, Write write) {
+        enqueue(description, write);
+    }
+
+    /**
+     * Queues a write and waits until it is done, e.g. because the model is going to be modified
+     * afterwards. Like for {@link #submit(String, Write) submitted} writes, a failure is thrown by
+     * {@link #awaitCompletion()}.
+     *
+     * @param description
+     *            what is written, e.g. the file name, for the log and the error message
+     * @param write
+     *            the write
+     */
+    public void submitAndWait(String description, Write write) {
+        final Future<?> pendingWrite = enqueue(description, write);
+        try {
+            pendingWrite.get();
+        } catch (final ExecutionException e) {
+            // Thrown by awaitCompletion
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    private synchronized Future<?> enqueue(String description, Write write) {
+        final Future<?> pendingWrite = executor.submit(() -> {
+            try {
+                write.run();
+            } catch (final IOException | RuntimeException e) {
+                throw new IOException("Could not save " + description, e);
+            }
+            LOG.info("Saved " + description);
+            return null;
+        });
+        pendingWrites.add(pendingWrite);
+        return pendingWrite;
+    }
+
+    /**
+     * Waits until all submitted writes are flushed.
+     *
+     * @throws IOException
+     *             if a write failed. Failures of further writes are added as suppressed exceptions.
+     */
+    public void awaitCompletion() throws IOException {
+        final List<Future<?>> writes;
+        synchronized (this) {
+            writes = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+        }
+
+        IOException failure = null;
+        for (final Future<?> write : writes) {
+            try {
+                write.get();
+            } catch (final ExecutionException e) {
+                final IOException cause = e.getCause() instanceof IOException ? (IOException) e.getCause()
+                        : new IOException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the models to be saved");
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Stops the I/O thread once the submitted writes are done. Writes that are still pending are
+     * not aborted, so that no half-written files are left behind.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
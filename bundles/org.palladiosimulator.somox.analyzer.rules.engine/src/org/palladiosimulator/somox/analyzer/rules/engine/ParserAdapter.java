@@ -1,16 +1,17 @@
 package org.palladiosimulator.somox.analyzer.rules.engine;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
-import org.emftext.language.java.JavaClasspath;
 import org.emftext.language.java.containers.CompilationUnit;
 import org.emftext.language.java.containers.impl.CompilationUnitImpl;
 import org.apache.log4j.Logger;
@@ -28,16 +29,94 @@ public class ParserAdapter {
     private static final Logger LOG = Logger.getLogger(ParserAdapter.class);
 
     public static List<CompilationUnitImpl> generateModelForPath(Path in, Path outDir) {
+        return generateModelForPath(in, outDir, ModelFormat.XMI);
+    }
 
-        // create
-        final List<CompilationUnitImpl> roots = new ArrayList<>();
-        JavaClasspath.get()
-            .clear();
+    /**
+     * Parses a project directory and saves the model to {@code model.containers} in the given
+     * format.
+     *
+     * @param in
+     *            the project directory
+     * @param outDir
+     *            the directory to save the model to
+     * @param format
+     *            the format of the saved model
+     * @return the relevant compilation units
+     */
+    public static List<CompilationUnitImpl> generateModelForPath(Path in, Path outDir, ModelFormat format) {
+        // All proxies are resolved, so the classpath is not needed after parsing
+        try (ClasspathLock lock = ClasspathLock.acquire(); ModelWriter writer = new ModelWriter()) {
+            final List<CompilationUnitImpl> roots = generateModelForPath(in, outDir, format, ProxyResolution.FULL,
+                    writer);
+            try {
+                writer.awaitCompletion();
+            } catch (final IOException e) {
+                // The parsed model is usable nevertheless
+                LOG.error("Could not save the generated model", e);
+            }
+            return roots;
+        }
+    }
+
+    /**
+     * Parses a project directory and saves the model to {@code model.containers} with the
+     * {@code writer}. If all proxies are resolved, the model is saved while the caller goes on, and
+     * the returned units must not be modified until the writer completed. Otherwise, navigating the
+     * units resolves their remaining proxies, which modifies the model, so this waits until the
+     * model is saved.
+     *
+     * The caller has to hold the {@link ClasspathLock} while parsing and, unless all proxies are
+     * resolved, as long as the model is used.
+     *
+     * @param in
+     *            the project directory
+     * @param outDir
+     *            the directory to save the model to
+     * @param format
+     *            the format of the saved model
+     * @param resolution
+     *            how the proxies of the model are resolved before it is saved
+     * @param writer
+     *            the writer to save the model with
+     * @return the relevant compilation units
+     */
+    public static List<CompilationUnitImpl> generateModelForPath(Path in, Path outDir, ModelFormat format,
+            ProxyResolution resolution, ModelWriter writer) {
 
         // parse
         final JaMoPPParserAPI parser = new JaMoPPJDTParser();
         final ResourceSet units = parser.parseDirectory(in);
 
+        LOG.info("Parsed project directory");
+
+        resolution.resolve(units);
+        return generateModelForResourceSet(units, outDir, format, resolution, writer);
+    }
+
+    /**
+     * Filters and saves a JaMoPP model that has already been parsed, e.g. by the JDT parser job,
+     * like {@link #generateModelForPath(Path, Path, ModelFormat, ProxyResolution, ModelWriter)}
+     * does after parsing. The proxies of the model must already be resolved according to
+     * {@code resolution}, they are not resolved again, so the JaMoPP classpath of the parse is only
+     * needed as long as the remaining proxies are navigated.
+     *
+     * @param units
+     *            the parsed model
+     * @param outDir
+     *            the directory to save the model to
+     * @param format
+     *            the format of the saved model
+     * @param resolution
+     *            how the proxies of the model have been resolved
+     * @param writer
+     *            the writer to save the model with
+     * @return the relevant compilation units
+     */
+    public static List<CompilationUnitImpl> generateModelForResourceSet(ResourceSet units, Path outDir,
+            ModelFormat format, ProxyResolution resolution, ModelWriter writer) {
+        final List<CompilationUnitImpl> roots = new ArrayList<>();
+
         // filter
         units.getAllContents()
             .forEachRemaining(u -> {
@@ -55,30 +134,27 @@ public class ParserAdapter {
                 }
             });
 
-        LOG.info("Parsed project directory");
-
-        saveModelToDisk(units, outDir);
-
-        LOG.info("Saved generated model to model.containers");
+        saveModelToDisk(units, outDir, format, resolution, writer);
 
         return roots;
     }
 
-    private static void saveModelToDisk(ResourceSet rs, Path outDir) {
+    private static void saveModelToDisk(ResourceSet rs, Path outDir, ModelFormat format, ProxyResolution resolution,
+            ModelWriter writer) {
         Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
             .put("java", new JavaResource2Factory());
         Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
             .put("containers", new XMIResourceFactoryImpl());
 
-        EcoreUtil.resolveAll(rs);
-
         final File outputFile = outDir.resolve("model")
             .toFile();
         outputFile.getParentFile()
             .mkdirs();
         final URI xmiFileURI = URI.createFileURI(outputFile.getAbsolutePath())
             .appendFileExtension("containers");
-        final Resource xmiResource = rs.createResource(xmiFileURI);
+        final Resource xmiResource = format.createResource(xmiFileURI);
+        rs.getResources()
+            .add(xmiResource);
 
         for (final Resource javaResource : new ArrayList<>(rs.getResources())) {
 
@@ -106,10 +182,15 @@ public class ParserAdapter {
                 .addAll(javaResource.getContents());
         }
 
-        try {
-            xmiResource.save(rs.getLoadOptions());
-        } catch (final Exception e) {
-            e.printStackTrace();
+        // Only the serialization is left to the writer, the model is not modified by it
+        final Map<Object, Object> options = new HashMap<>(rs.getLoadOptions());
+        options.putAll(format.getSaveOptions());
+        final String description = "model.containers as " + format;
+        if (resolution == ProxyResolution.FULL) {
+            writer.submit(description, () -> xmiResource.save(options));
+        } else {
+            // The rules resolve the remaining proxies while navigating, which must not race with the save
+            writer.submitAndWait(description, () -> xmiResource.save(options));
         }
     }
 
@@ -0,0 +1,113 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * How the proxies of a parsed JaMoPP model are resolved before it is used and saved. Proxies that
+ * are not resolved up front are resolved by EMF as soon as they are navigated, as long as the
+ * model stays in its resource set and the JaMoPP classpath of the parse is set.
+ */
+public enum ProxyResolution {
+    /**
+     * Resolves every proxy of the resource set, including those of the JDK and library classifiers
+     * that are loaded on the way.
+     */
+    FULL,
+    /**
+     * Resolves every proxy of the parsed source files, i.e. of their type references, annotations,
+     * classifiers and members. The JDK and library classifiers they refer to are loaded, but their
+     * own proxies are only resolved when they are navigated. Since no proxy of the source files is
+     * left, their contents can be moved into another resource afterwards, as done when the model is
+     * saved. The JaMoPP classpath has to stay set while the model is used, so the
+     * {@link ClasspathLock} is held until the analysis is done, and concurrent analyses in the same
+     * JVM run one after another.
+     */
+    SELECTIVE;
+
+    private static final Logger LOG = Logger.getLogger(ProxyResolution.class);
+
+    /**
+     * Parses a mode name, ignoring case.
+     *
+     * @param name
+     *            the name of the mode, e.g. {@code selective}
+     * @return the mode, or {@link #FULL} if the name is {@code null} or unknown
+     */
+    public static ProxyResolution parse(String name) {
+        if (name == null || name.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(name.strip()
+                .toUpperCase(Locale.US));
+        } catch (final IllegalArgumentException e) {
+            LOG.warn("Unknown proxy resolution \"" + name + "\", using " + FULL + " instead. Supported modes: "
+                    + Arrays.toString(values()));
+            return FULL;
+        }
+    }
+
+    /**
+     * Returns the mode to use if the rules are executed on {@code parallelism} worker threads.
+     * Navigating an unresolved proxy loads resources into the resource set, which EMF does not
+     * synchronize, so rules can only work on the model in parallel if it is fully resolved.
+     *
+     * @param parallelism
+     *            the number of worker threads the rules are executed on
+     * @return this mode for a sequential execution, {@link #FULL} otherwise
+     */
+    public ProxyResolution forParallelism(int parallelism) {
+        if (parallelism <= 1 || this == FULL) {
+            return this;
+        }
+        LOG.info("Using " + FULL + " instead of " + this + " proxy resolution, since the rules are executed on "
+                + parallelism + " workers");
+        return FULL;
+    }
+
+    /**
+     * Resolves the proxies of a parsed model according to this mode.
+     *
+     * @param resourceSet
+     *            the resource set of the parsed model
+     */
+    public void resolve(ResourceSet resourceSet) {
+        if (this == FULL) {
+            EcoreUtil.resolveAll(resourceSet);
+            return;
+        }
+
+        // Resolving loads further resources, the source files among them are traversed as well
+        final EList<Resource> resources = resourceSet.getResources();
+        for (int i = 0; i < resources.size(); i++) {
+            final Resource resource = resources.get(i);
+            final URI uri = resource.getURI();
+            if (uri == null || !"file".equals(uri.scheme())) {
+                continue;
+            }
+            final TreeIterator<EObject> contents = resource.getAllContents();
+            while (contents.hasNext()) {
+                resolveCrossReferences(contents.next());
+            }
+        }
+    }
+
+    private static void resolveCrossReferences(EObject object) {
+        // Iterating over the cross references resolves them
+        for (final Iterator<EObject> references = object.eCrossReferences()
+            .iterator(); references.hasNext();) {
+            references.next();
+        }
+    }
+}
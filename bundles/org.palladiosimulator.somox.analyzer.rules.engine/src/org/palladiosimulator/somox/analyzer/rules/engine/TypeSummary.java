@@ -0,0 +1,65 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The name, supertypes and annotations of a type in a jar, as stored in a {@link TypeSummaryIndex}.
+ * All names are fully qualified, nested types are separated by dots.
+ */
+public class TypeSummary {
+    private final String qualifiedName;
+    private final String superclass;
+    private final List<String> interfaces;
+    private final List<String> annotations;
+
+    public TypeSummary(String qualifiedName, String superclass, List<String> interfaces, List<String> annotations) {
+        this.qualifiedName = qualifiedName;
+        this.superclass = superclass;
+        this.interfaces = List.copyOf(interfaces);
+        this.annotations = List.copyOf(annotations);
+    }
+
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * @return the superclass or {@code null} for interfaces and {@link Object}
+     */
+    public String getSuperclass() {
+        return superclass;
+    }
+
+    public List<String> getInterfaces() {
+        return Collections.unmodifiableList(interfaces);
+    }
+
+    /**
+     * @return the annotations the type itself is annotated with
+     */
+    public List<String> getAnnotations() {
+        return Collections.unmodifiableList(annotations);
+    }
+
+    /**
+     * Checks whether the type is annotated with one of the given annotations, matching either the
+     * simple or the qualified name like {@link org.eclipse.jdt.core.dom.IAnnotationBinding#getName()}
+     * and the JaMoPP helpers do.
+     *
+     * @param names
+     *            the simple or qualified names of the annotations
+     * @return whether the type is annotated with one of them
+     */
+    public boolean isAnnotatedWith(String... names) {
+        for (final String annotation : annotations) {
+            final String simpleName = annotation.substring(annotation.lastIndexOf('.') + 1);
+            for (final String name : names) {
+                if (name.equals(simpleName) || name.equals(annotation)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,425 @@
+package org.palladiosimulator.somox.analyzer.rules.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.log4j.Logger;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.util.IAnnotation;
+import org.eclipse.jdt.core.util.IClassFileAttribute;
+import org.eclipse.jdt.core.util.IClassFileReader;
+import org.eclipse.jdt.core.util.IRuntimeInvisibleAnnotationsAttribute;
+import org.eclipse.jdt.core.util.IRuntimeVisibleAnnotationsAttribute;
+
+/**
+ * An index of the {@link TypeSummary type summaries} of dependency jars. The summaries of every jar
+ * are stored in a file named after the SHA-256 hash of the jar, so they are reused by later runs
+ * and by other projects on the same machine as long as the jar does not change. The files are
+ * memory-mapped and searched in place, only the looked up types are decoded.
+ *
+ * Rule helpers use an index to answer questions about types from jars without resolving their
+ * bindings. Every analysis looks the types up in a {@link #createView(Collection) view} over exactly
+ * its own classpath. A view owns the mapped files of its jars, they are unmapped once no view uses
+ * them anymore. The {@link #getShared() shared index} only remembers them while they are in use, so
+ * that views of the same jars share them.
+ */
+public class TypeSummaryIndex {
+    private static final Logger LOG = Logger.getLogger(TypeSummaryIndex.class);
+
+    /**
+     * The system property to change the directory of the index files.
+     */
+    public static final String DIRECTORY_PROPERTY = "somox.typeIndex";
+
+    private static final int MAGIC = 0x534d5449;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".types";
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final int DECODING_FLAGS = IClassFileReader.CONSTANT_POOL | IClassFileReader.SUPER_INTERFACES
+            | IClassFileReader.CLASSFILE_ATTRIBUTES;
+
+    private static final TypeSummaryIndex SHARED = new TypeSummaryIndex(getDefaultDirectory());
+
+    private final Path directory;
+    private final List<JarSummaries> jars = new CopyOnWriteArrayList<>();
+    private final Map<String, JarSummaries> summariesByHash = new HashMap<>();
+    private final Map<String, WeakReference<JarSummaries>> viewSummariesByHash = new HashMap<>();
+
+    /**
+     * @param directory
+     *            the directory the index files are stored in, it is created if necessary
+     */
+    public TypeSummaryIndex(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the index shared by all analyses in this JVM. Analyses should only create
+     * {@link #createView(Collection) views} of it, jars added to it directly stay mapped as long as
+     * the JVM runs.
+     */
+    public static TypeSummaryIndex getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the directory given by {@code -Dsomox.typeIndex} or {@code ~/.somox/type-index}.
+     */
+    public static Path getDefaultDirectory() {
+        final String configured = System.getProperty(DIRECTORY_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".somox", "type-index");
+    }
+
+    /**
+     * Adds the summaries of the given jars to this index. Jars that have already been indexed, by
+     * this or by an earlier run, are not read again. Jars that cannot be read are skipped.
+     *
+     * @param jarFiles
+     *            the paths of the jars
+     */
+    public synchronized void addJars(Collection<String> jarFiles) {
+        index(jarFiles, true);
+    }
+
+    /**
+     * Creates an index of exactly the given jars, e.g. the classpath of a single analysis. The index
+     * files are created as by {@link #addJars(Collection)}, but the jars are not added to this
+     * index. The view shares the mapped files with the views of this index that are still in use.
+     *
+     * @param jarFiles
+     *            the paths of the jars, earlier ones take precedence over later ones
+     * @return the view over the jars that could be indexed
+     */
+    public synchronized TypeSummaryIndex createView(Collection<String> jarFiles) {
+        final TypeSummaryIndex view = new TypeSummaryIndex(directory);
+        final Map<String, JarSummaries> indexed = index(jarFiles, false);
+        view.summariesByHash.putAll(indexed);
+        view.jars.addAll(indexed.values());
+        return view;
+    }
+
+    /**
+     * Maps the summaries of the given jars, creating their index files if necessary.
+     *
+     * @param add
+     *            whether to add the summaries to this index, otherwise they are only shared with
+     *            other views as long as they are in use
+     * @return the summaries of the given jars by their hashes, in the order of the jars
+     */
+    private Map<String, JarSummaries> index(Collection<String> jarFiles, boolean add) {
+        viewSummariesByHash.values()
+            .removeIf(reference -> reference.get() == null);
+        final Map<String, JarSummaries> indexed = new LinkedHashMap<>();
+        int created = 0;
+        for (final String jarFile : jarFiles) {
+            final Path jar = Path.of(jarFile);
+            try {
+                final String hash = FileHashes.hash(jar);
+                JarSummaries summaries = summariesByHash.get(hash);
+                if (summaries == null && viewSummariesByHash.containsKey(hash)) {
+                    summaries = viewSummariesByHash.get(hash)
+                        .get();
+                }
+                if (summaries == null) {
+                    final Path indexFile = directory.resolve(hash + FILE_EXTENSION);
+                    if (!Files.isRegularFile(indexFile)) {
+                        write(jar, indexFile);
+                        created++;
+                    }
+                    summaries = new JarSummaries(map(indexFile));
+                    viewSummariesByHash.put(hash, new WeakReference<>(summaries));
+                }
+                if (add && !summariesByHash.containsKey(hash)) {
+                    jars.add(summaries);
+                    summariesByHash.put(hash, summaries);
+                }
+                indexed.putIfAbsent(hash, summaries);
+            } catch (IOException | IllegalStateException e) {
+                LOG.warn("The types of " + jar + " could not be indexed", e);
+            }
+        }
+        LOG.info(String.format("Indexed the types of %d jars, %d of them for the first time", indexed.size(),
+                created));
+        return indexed;
+    }
+
+    /**
+     * Looks up the summary of a type.
+     *
+     * @param qualifiedName
+     *            the fully qualified name of the type, nested types separated by dots
+     * @return the summary from the first jar declaring the type, or an empty optional if no indexed
+     *         jar declares it
+     */
+    public Optional<TypeSummary> find(String qualifiedName) {
+        if (qualifiedName == null) {
+            return Optional.empty();
+        }
+        final byte[] key = qualifiedName.getBytes(StandardCharsets.UTF_8);
+        for (final JarSummaries jar : jars) {
+            final Optional<TypeSummary> summary = jar.find(key);
+            if (summary.isPresent()) {
+                return summary;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return whether no jar has been indexed
+     */
+    public boolean isEmpty() {
+        return jars.isEmpty();
+    }
+
+    /**
+     * Reads the class files of a jar and writes their summaries, sorted by name, into an index
+     * file. The file is written under a temporary name first, so that concurrent runs never map a
+     * partially written file.
+     */
+    private static void write(Path jar, Path indexFile) throws IOException {
+        final Map<String, TypeSummary> summaries = new HashMap<>();
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            final Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entry.getName()
+                    .endsWith(CLASS_FILE_EXTENSION) || entry.getName()
+                        .endsWith("module-info.class")) {
+                    continue;
+                }
+                try (InputStream input = zip.getInputStream(entry)) {
+                    final IClassFileReader reader = ToolFactory.createDefaultClassFileReader(input, DECODING_FLAGS);
+                    if (reader != null) {
+                        final TypeSummary summary = summarize(reader);
+                        summaries.putIfAbsent(summary.getQualifiedName(), summary);
+                    }
+                }
+            }
+        }
+
+        // Sort by the encoded names, so that the lookup can compare bytes
+        final List<TypeSummary> sorted = new ArrayList<>(summaries.values());
+        sorted.sort((a, b) -> Arrays.compareUnsigned(encode(a.getQualifiedName()), encode(b.getQualifiedName())));
+
+        Files.createDirectories(indexFile.getParent());
+        final Path temporaryFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName()
+            .toString(), ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temporaryFile);
+                    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output))) {
+                data.writeInt(MAGIC);
+                data.writeInt(FORMAT_VERSION);
+                data.writeInt(sorted.size());
+                // The offset table, followed by the entries
+                int offset = 3 * Integer.BYTES + sorted.size() * Integer.BYTES;
+                final List<byte[]> entries = new ArrayList<>(sorted.size());
+                for (int i = 0; i < sorted.size(); i++) {
+                    final byte[] entry = encodeEntry(sorted.get(i));
+                    data.writeInt(offset);
+                    offset += entry.length;
+                    entries.add(entry);
+                }
+                for (final byte[] entry : entries) {
+                    data.write(entry);
+                }
+            }
+            try {
+                Files.move(temporaryFile, indexFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static TypeSummary summarize(IClassFileReader reader) {
+        final String name = toQualifiedName(reader.getClassName());
+        final char[] superclassName = reader.getSuperclassName();
+        final String superclass = superclassName == null ? null : toQualifiedName(superclassName);
+        final List<String> interfaces = new ArrayList<>();
+        final char[][] interfaceNames = reader.getInterfaceNames();
+        for (final char[] interfaceName : interfaceNames == null ? new char[0][] : interfaceNames) {
+            interfaces.add(toQualifiedName(interfaceName));
+        }
+        final List<String> annotations = new ArrayList<>();
+        final IClassFileAttribute[] attributes = reader.getAttributes();
+        for (final IClassFileAttribute attribute : attributes == null ? new IClassFileAttribute[0] : attributes) {
+            IAnnotation[] attributeAnnotations = new IAnnotation[0];
+            if (attribute instanceof IRuntimeVisibleAnnotationsAttribute) {
+                attributeAnnotations = ((IRuntimeVisibleAnnotationsAttribute) attribute).getAnnotations();
+            } else if (attribute instanceof IRuntimeInvisibleAnnotationsAttribute) {
+                attributeAnnotations = ((IRuntimeInvisibleAnnotationsAttribute) attribute).getAnnotations();
+            }
+            for (final IAnnotation annotation : attributeAnnotations) {
+                annotations.add(toQualifiedName(annotation.getTypeName()));
+            }
+        }
+        return new TypeSummary(name, superclass, interfaces, annotations);
+    }
+
+    /**
+     * Converts internal names ({@code java/util/Map$Entry}) and descriptors
+     * ({@code Ljava/util/Map$Entry;}) into qualified names ({@code java.util.Map.Entry}).
+     */
+    private static String toQualifiedName(char[] name) {
+        String qualifiedName = new String(name);
+        if (qualifiedName.startsWith("L") && qualifiedName.endsWith(";")) {
+            qualifiedName = qualifiedName.substring(1, qualifiedName.length() - 1);
+        }
+        return qualifiedName.replace('/', '.')
+            .replace('$', '.');
+    }
+
+    private static byte[] encodeEntry(TypeSummary summary) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(bytes)) {
+            writeBytes(data, encode(summary.getQualifiedName()));
+            writeBytes(data, summary.getSuperclass() == null ? new byte[0] : encode(summary.getSuperclass()));
+            data.writeInt(summary.getInterfaces()
+                .size());
+            for (final String interfaceName : summary.getInterfaces()) {
+                writeBytes(data, encode(interfaceName));
+            }
+            data.writeInt(summary.getAnnotations()
+                .size());
+            for (final String annotation : summary.getAnnotations()) {
+                writeBytes(data, encode(annotation));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeBytes(DataOutputStream data, byte[] bytes) throws IOException {
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MappedByteBuffer map(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < 3 * Integer.BYTES || buffer.getInt(0) != MAGIC
+                    || buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                // Written by an incompatible version, it is written again by the next run
+                Files.deleteIfExists(indexFile);
+                throw new IllegalStateException("Invalid type index file " + indexFile);
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Compares the name stored at the current position of {@code stored} with {@code key} as
+     * unsigned bytes.
+     */
+    private static int compare(ByteBuffer stored, byte[] key) {
+        final int length = stored.remaining();
+        final int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            final int difference = Byte.toUnsignedInt(stored.get(stored.position() + i))
+                    - Byte.toUnsignedInt(key[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    /**
+     * The memory-mapped summaries of a single jar.
+     */
+    private static final class JarSummaries {
+        private final ByteBuffer buffer;
+        private final int count;
+
+        JarSummaries(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.count = buffer.getInt(2 * Integer.BYTES);
+        }
+
+        Optional<TypeSummary> find(byte[] key) {
+            // The buffer is shared between threads, so only absolute reads and duplicates are used
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final int offset = buffer.getInt(3 * Integer.BYTES + middle * Integer.BYTES);
+                final int comparison = compare(slice(offset), key);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return Optional.of(decode(offset));
+                }
+            }
+            return Optional.empty();
+        }
+
+        private ByteBuffer slice(int offset) {
+            final int length = buffer.getInt(offset);
+            final ByteBuffer name = buffer.duplicate();
+            name.position(offset + Integer.BYTES);
+            name.limit(offset + Integer.BYTES + length);
+            return name;
+        }
+
+        private TypeSummary decode(int offset) {
+            final ByteBuffer entry = buffer.duplicate();
+            entry.position(offset);
+            final String name = readString(entry);
+            final String superclass = readString(entry);
+            final int interfaceCount = entry.getInt();
+            final List<String> interfaces = new ArrayList<>(interfaceCount);
+            for (int i = 0; i < interfaceCount; i++) {
+                interfaces.add(readString(entry));
+            }
+            final int annotationCount = entry.getInt();
+            final List<String> annotations = new ArrayList<>(annotationCount);
+            for (int i = 0; i < annotationCount; i++) {
+                annotations.add(readString(entry));
+            }
+            return new TypeSummary(name, superclass.isEmpty() ? null : superclass, interfaces, annotations);
+        }
+
+        private static String readString(ByteBuffer entry) {
+            final byte[] bytes = new byte[entry.getInt()];
+            entry.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
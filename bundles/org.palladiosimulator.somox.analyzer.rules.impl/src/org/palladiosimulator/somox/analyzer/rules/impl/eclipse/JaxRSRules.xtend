@@ -5,6 +5,7 @@ import org.palladiosimulator.somox.analyzer.rules.engine.IRule
 import static org.palladiosimulator.somox.analyzer.rules.engine.EclipseRuleHelper.*
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard
 import java.nio.file.Path;
+import java.util.Set
 import org.eclipse.jdt.core.dom.CompilationUnit
 
 class JaxRSRules extends IRule{
@@ -13,6 +14,10 @@ class JaxRSRules extends IRule{
 		super(blackboard)
 	}
 	
+	override Set<String> getBuildFilePatterns() {
+		#{}
+	}
+	
 	override boolean processRules(Path path) {
 		val units = blackboard.getCompilationUnitAt(path)
 		
@@ -6,6 +6,7 @@ import static org.palladiosimulator.somox.analyzer.rules.engine.EclipseRuleHelpe
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard
 import java.nio.file.Path;
+import java.util.Set
 import org.eclipse.jdt.core.dom.MethodDeclaration
 import org.eclipse.jdt.core.dom.SingleVariableDeclaration
 import java.util.List
@@ -18,6 +19,10 @@ class SpringRules extends IRule {
 		super(blackboard)
 	}
 	
+	override Set<String> getBuildFilePatterns() {
+		#{}
+	}
+	
 	override boolean processRules(Path path) {
 		val units = blackboard.getCompilationUnitAt(path)
 	
@@ -34,6 +39,7 @@ class SpringRules extends IRule {
 	
 	def boolean processRuleForCompUnit(CompilationUnit unit) {
 		val pcmDetector = blackboard.getEclipsePCMDetector()
+		val typeIndex = blackboard.getTypeSummaryIndex()
 		
 		// Abort if there is no CompilationUnit at the specified path
 		if (unit === null) {
@@ -98,7 +104,7 @@ class SpringRules extends IRule {
 					pcmDetector.detectRequiredInterface(unit, f)
 				}
 				// if class of field is annotated
-				if(!abstr && modi && isClassOfFieldAnnotatedWithName(f,"Component","Service","Controller","RestController","RequestMapping","ControllerAdvice")){
+				if(!abstr && modi && isClassOfFieldAnnotatedWithName(typeIndex, f,"Component","Service","Controller","RestController","RequestMapping","ControllerAdvice")){
 					pcmDetector.detectRequiredInterface(unit, f)
 				}
 				
@@ -114,7 +120,7 @@ class SpringRules extends IRule {
 							pcmDetector.detectRequiredInterface(unit, p)
 						}
 						// if type is component
-						if(!isParaAbstract && isParameterAClassAnnotatedWith(p,"Component","Service","Controller","RestController","RequestMapping","ControllerAdvice")){
+						if(!isParaAbstract && isParameterAClassAnnotatedWith(typeIndex, p,"Component","Service","Controller","RestController","RequestMapping","ControllerAdvice")){
 							pcmDetector.detectRequiredInterface(unit, p)
 						}
 					}
@@ -125,7 +131,7 @@ class SpringRules extends IRule {
 			getConstructors(unit).forEach[constructor | {
 				if(isConstructorAnnotatedWithName(constructor,"Autowired")){
 					constructor.parameters.forEach[para | {
-					if(isParameterAbstract(para) || isParameterAClassAnnotatedWith(para,"Component","Service","Controller","RestController","RequestMapping","ControllerAdvice")){
+					if(isParameterAbstract(para) || isParameterAClassAnnotatedWith(typeIndex, para,"Component","Service","Controller","RestController","RequestMapping","ControllerAdvice")){
 						pcmDetector.detectRequiredInterface(unit, para)
 					}
 					if(!isParameterAbstract(para) && isParameterAnnotatedWith(para,"LoadBalanced")){
@@ -6,6 +6,7 @@ import org.palladiosimulator.somox.analyzer.rules.engine.IRule
 import static org.palladiosimulator.somox.analyzer.rules.engine.EMFTextRuleHelper.*
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard
 import java.nio.file.Path;
+import java.util.Set
 
 class JaxRSRules extends IRule{
 	
@@ -13,6 +14,14 @@ class JaxRSRules extends IRule{
 		super(blackboard)
 	}
 	
+	override boolean isThreadSafe() {
+		true
+	}
+	
+	override Set<String> getBuildFilePatterns() {
+		#{}
+	}
+	
 	override boolean processRules(Path path) {
 		val units = blackboard.getCompilationUnitAt(path)
 		
@@ -9,6 +9,7 @@ import org.emftext.language.java.members.Field
 import org.emftext.language.java.parameters.Parameter
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard
 import java.nio.file.Path;
+import java.util.Set
 
 class SpringRules extends IRule {
 	
@@ -16,6 +17,14 @@ class SpringRules extends IRule {
 		super(blackboard)
 	}
 	
+	override boolean isThreadSafe() {
+		true
+	}
+	
+	override Set<String> getBuildFilePatterns() {
+		#{}
+	}
+	
 	override boolean processRules(Path path) {
 		val units = blackboard.getCompilationUnitAt(path)
 	
@@ -0,0 +1,134 @@
+package org.palladiosimulator.somox.analyzer.rules.cli;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a project directory and all of its subdirectories for changed files. Changes are
+ * collected in batches, so that saving several files at once only causes a single update.
+ */
+public class ProjectWatcher implements Closeable {
+    private final Path root;
+    private final Path ignored;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories;
+
+    /**
+     * Starts watching the {@code root} directory.
+     *
+     * @param root
+     *            the project directory
+     * @param ignored
+     *            a directory whose changes are ignored, e.g. the output directory
+     * @throws IOException
+     *             if the directories could not be registered
+     */
+    public ProjectWatcher(Path root, Path ignored) throws IOException {
+        this.root = root.toAbsolutePath()
+            .normalize();
+        this.ignored = ignored.toAbsolutePath()
+            .normalize();
+        this.watchService = this.root.getFileSystem()
+            .newWatchService();
+        this.directories = new HashMap<>();
+        register(this.root);
+    }
+
+    /**
+     * Waits for the next batch of changes. The batch ends as soon as no further change happened for
+     * {@code quietMillis}, but at the latest {@code maxMillis} after its first change, so that a
+     * steady stream of changes does not delay the update forever.
+     *
+     * @param quietMillis
+     *            the time without changes that ends a batch
+     * @param maxMillis
+     *            the longest time a batch is collected
+     * @return the changed files and directories, the root directory if changes were lost, or
+     *         {@code null} if this watcher has been closed
+     * @throws InterruptedException
+     *             if the thread was interrupted while waiting
+     */
+    public Set<Path> awaitChanges(long quietMillis, long maxMillis) throws InterruptedException {
+        final Set<Path> changes = new HashSet<>();
+        try {
+            WatchKey key = watchService.take();
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMillis);
+            while (key != null) {
+                collect(key, changes);
+                final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    // Further changes are part of the next batch
+                    break;
+                }
+                key = watchService.poll(Math.min(quietMillis, remainingMillis), TimeUnit.MILLISECONDS);
+            }
+        } catch (final ClosedWatchServiceException e) {
+            return null;
+        }
+        return changes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void collect(WatchKey key, Set<Path> changes) {
+        final Path directory = directories.get(key);
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || directory == null) {
+                // Some events have been lost, so everything could have changed
+                changes.add(root);
+                continue;
+            }
+            final Path changed = directory.resolve((Path) event.context());
+            if (changed.startsWith(ignored)) {
+                continue;
+            }
+            changes.add(changed);
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+                try {
+                    register(changed);
+                } catch (final IOException e) {
+                    changes.add(root);
+                }
+            }
+        }
+        if (!key.reset()) {
+            // The directory does not exist anymore
+            directories.remove(key);
+        }
+    }
+
+    private void register(Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (dir.startsWith(ignored)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                directories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -1,6 +1,9 @@
 package org.palladiosimulator.somox.analyzer.rules.cli;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -11,15 +14,46 @@ import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.emftext.language.java.containers.impl.CompilationUnitImpl;
 import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.all.RuleBackend;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
+import org.palladiosimulator.somox.analyzer.rules.engine.ClasspathLock;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelWriter;
 import org.palladiosimulator.somox.analyzer.rules.engine.ParserAdapter;
+import org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution;
+import org.palladiosimulator.somox.analyzer.rules.main.AnalysisCache;
 import org.palladiosimulator.somox.analyzer.rules.main.RuleEngineAnalyzer;
 
 public class RuleEngineApplication implements IApplication {
 
+    private static final String PARALLELISM_OPTION = "--parallelism=";
+    private static final String MODEL_FORMAT_OPTION = "--model-format=";
+    private static final String PROXY_RESOLUTION_OPTION = "--proxy-resolution=";
+    private static final String NO_CACHE_OPTION = "--no-cache";
+    private static final String WATCH_OPTION = "--watch";
+
+    /**
+     * The time without further changes after which a batch of changes is analyzed in watch mode.
+     */
+    private static final long WATCH_QUIET_MILLIS = 500;
+
+    /**
+     * The longest time a batch of changes is collected in watch mode, even if changes keep coming.
+     */
+    private static final long WATCH_MAX_WAIT_MILLIS = 10_000;
+
     private static final String FORMAT_EXPLANATION = "The following format is expected:"
-            + "\n<input directory> <output directory> [rules]\n\nSupported rules: "
-            + String.join(", ", DefaultRule.valuesAsString());
+            + "\n<input directory> <output directory> [" + PARALLELISM_OPTION + "<workers>] [" + MODEL_FORMAT_OPTION
+            + "<format>] [" + PROXY_RESOLUTION_OPTION + "<mode>] [" + NO_CACHE_OPTION + "] [" + WATCH_OPTION
+            + "] [rules]"
+            + "\n\nSupported rules: " + String.join(", ", DefaultRule.valuesAsString())
+            + "\nSupported model formats: xmi, xmi-zip, binary"
+            + "\nSupported proxy resolution modes: full, selective"
+            + "\n\n" + PARALLELISM_OPTION + "<workers> only applies to the EMFText rules, the JDT rules always run"
+            + " sequentially. More than one worker forces the full proxy resolution.";
+
+    private volatile ProjectWatcher watcher;
 
     @Override
     public Object start(IApplicationContext context) throws Exception {
@@ -47,9 +81,50 @@ public class RuleEngineApplication implements IApplication {
             return -1;
         }
 
-        // Extract and check rules
+        // Extract and check options and rules
+        int parallelism = 1;
+        ModelFormat format = ModelFormat.XMI;
+        ProxyResolution resolution = ProxyResolution.FULL;
+        boolean useCache = true;
+        boolean watch = false;
         final Set<DefaultRule> rules = new HashSet<DefaultRule>();
         for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith(PARALLELISM_OPTION)) {
+                try {
+                    parallelism = Integer.parseInt(args[i].substring(PARALLELISM_OPTION.length()));
+                } catch (NumberFormatException e) {
+                    parallelism = 0;
+                }
+                if (parallelism < 1) {
+                    System.err.println("Invalid parallelism: \"" + args[i] + "\"\n" + FORMAT_EXPLANATION);
+                    return -1;
+                }
+                continue;
+            }
+            if (args[i].startsWith(MODEL_FORMAT_OPTION)) {
+                format = parseOption(ModelFormat.class, args[i].substring(MODEL_FORMAT_OPTION.length()));
+                if (format == null) {
+                    System.err.println("Invalid model format: \"" + args[i] + "\"\n" + FORMAT_EXPLANATION);
+                    return -1;
+                }
+                continue;
+            }
+            if (args[i].startsWith(PROXY_RESOLUTION_OPTION)) {
+                resolution = parseOption(ProxyResolution.class, args[i].substring(PROXY_RESOLUTION_OPTION.length()));
+                if (resolution == null) {
+                    System.err.println("Invalid proxy resolution: \"" + args[i] + "\"\n" + FORMAT_EXPLANATION);
+                    return -1;
+                }
+                continue;
+            }
+            if (args[i].equals(NO_CACHE_OPTION)) {
+                useCache = false;
+                continue;
+            }
+            if (args[i].equals(WATCH_OPTION)) {
+                watch = true;
+                continue;
+            }
             try {
                 rules.add(DefaultRule.valueOf(args[i]));
             } catch (IllegalArgumentException e) {
@@ -58,14 +133,166 @@ public class RuleEngineApplication implements IApplication {
             }
         }
 
-        final List<CompilationUnitImpl> roots = ParserAdapter.generateModelForPath(in, out);
+        // The rules can only navigate the JaMoPP model in parallel if it is fully resolved
+        resolution = resolution.forParallelism(parallelism);
+
+        // The project is watched before the first analysis, so that changes made while it runs
+        // cause another one
+        final ProjectWatcher projectWatcher = watch ? new ProjectWatcher(in, out) : null;
+        watcher = projectWatcher;
+        try {
+            // Reuse the repositories of the last analysis if nothing changed since then. The files
+            // are hashed before the analysis, so that changes made while it runs are detected next
+            // time.
+            final AnalysisCache cache = createCache(in, out, rules, format, resolution);
+            cache.snapshot();
+            List<CompilationUnitImpl> roots = null;
+            if (useCache && RuleEngineAnalyzer.loadUpToDateResult(cache, out, rules)) {
+                System.out.println("Nothing changed since the last analysis, the repositories in \"" + out
+                        + "\" are up to date.");
+            } else {
+                roots = parse(in, out, rules, format, resolution);
+                RuleEngineAnalyzer.executeWith(in, out, CompilationUnitWrapper.wrap(roots), rules, parallelism);
+                cache.save();
+            }
 
-        RuleEngineAnalyzer.executeWith(in, out, CompilationUnitWrapper.wrap(roots), rules);
+            if (projectWatcher != null) {
+                watch(projectWatcher, in, out, rules, parallelism, format, resolution, roots, cache);
+            }
+        } finally {
+            watcher = null;
+            if (projectWatcher != null) {
+                projectWatcher.close();
+            }
+        }
 
         return 0;
     }
 
+    /**
+     * Analyzes the project again whenever files in it change, until the application is stopped.
+     * The JaMoPP model is kept between the analyses and is only parsed again if Java files changed.
+     * A failed analysis, e.g. of a file that is only half saved, is reported and the next change is
+     * awaited. Only the changed files are hashed for the cache, which is saved once watching stops.
+     */
+    private static void watch(ProjectWatcher projectWatcher, Path in, Path out, Set<DefaultRule> rules,
+            int parallelism, ModelFormat format, ProxyResolution resolution, List<CompilationUnitImpl> roots,
+            AnalysisCache cache) {
+        // Whether the repositories are the result of the files in the snapshot of the cache
+        boolean upToDate = true;
+        try {
+            System.out.println("Watching \"" + in + "\" for changes, stop with Ctrl+C.");
+            while (true) {
+                final Set<Path> changes = projectWatcher.awaitChanges(WATCH_QUIET_MILLIS, WATCH_MAX_WAIT_MILLIS);
+                if (changes == null) {
+                    // The watcher has been closed by stop()
+                    break;
+                }
+                if (changes.isEmpty()) {
+                    continue;
+                }
+
+                // The files are hashed before the analysis, like for the first one
+                cache.update(changes);
+                upToDate = false;
+                try {
+                    if (roots == null || requiresParsing(changes)) {
+                        // A failed parse must not leave the model of an older state behind
+                        roots = null;
+                        roots = parse(in, out, rules, format, resolution);
+                    }
+                    RuleEngineAnalyzer.executeWith(in, out, CompilationUnitWrapper.wrap(roots), rules, parallelism);
+                    upToDate = true;
+                    System.out.println("Updated the repositories in \"" + out + "\" after " + changes.size()
+                            + " changes.");
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Could not analyze the changes, waiting for further changes: " + e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        } finally {
+            if (upToDate) {
+                cache.save();
+            } else {
+                cache.invalidate();
+            }
+        }
+    }
+
+    private static List<CompilationUnitImpl> parse(Path in, Path out, Set<DefaultRule> rules, ModelFormat format,
+            ProxyResolution resolution) throws IOException {
+        // JaMoPP is only executed if some rule works on its model
+        if (!RuleBackend.EMFTEXT.isRequiredBy(rules)) {
+            return Collections.emptyList();
+        }
+        // The application runs a single analysis, so the classpath is only needed while parsing
+        try (ClasspathLock lock = ClasspathLock.acquire(); ModelWriter writer = new ModelWriter()) {
+            final List<CompilationUnitImpl> roots = ParserAdapter.generateModelForPath(in, out, format, resolution,
+                    writer);
+            writer.awaitCompletion();
+            return roots;
+        }
+    }
+
+    /**
+     * Creates the cache for the analysis of {@code in}. Only the settings that change the
+     * repositories are part of it, the parallelism does not.
+     */
+    private static AnalysisCache createCache(Path in, Path out, Set<DefaultRule> rules, ModelFormat format,
+            ProxyResolution resolution) {
+        final AnalysisCache cache = new AnalysisCache(in, out, rules);
+        cache.putSetting(RuleEngineConfiguration.RULE_ENGINE_MODEL_FORMAT, format);
+        cache.putSetting(RuleEngineConfiguration.RULE_ENGINE_PROXY_RESOLUTION, resolution);
+        return cache;
+    }
+
+    /**
+     * Parses the value of an option like {@code xmi-zip} into the enum constant {@code XMI_ZIP}.
+     *
+     * @return the constant or {@code null} if there is none with this name
+     */
+    private static <E extends Enum<E>> E parseOption(Class<E> type, String name) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name()
+                .replace('_', '-')
+                .equalsIgnoreCase(name)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Only changes of Java sources or libraries require the JaMoPP model to be parsed again. Since
+     * deleted paths cannot be inspected anymore, everything that might be a directory counts as
+     * well.
+     */
+    private static boolean requiresParsing(Set<Path> changes) {
+        for (Path change : changes) {
+            final Path fileName = change.getFileName();
+            if (fileName == null || Files.isDirectory(change)) {
+                return true;
+            }
+            final String name = fileName.toString()
+                .toLowerCase();
+            if (name.endsWith(".java") || name.endsWith(".jar") || !name.contains(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void stop() {
+        final ProjectWatcher projectWatcher = watcher;
+        if (projectWatcher != null) {
+            try {
+                projectWatcher.close();
+            } catch (IOException e) {
+                System.err.println("Could not stop watching: " + e.getMessage());
+            }
+        }
     }
 }
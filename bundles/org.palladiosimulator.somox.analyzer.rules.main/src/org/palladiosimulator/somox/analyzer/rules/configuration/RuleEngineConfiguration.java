@@ -10,6 +10,8 @@ import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.emf.common.util.URI;
 import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+import org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution;
 import org.palladiosimulator.somox.analyzer.rules.service.Analyst;
 import org.palladiosimulator.somox.analyzer.rules.service.AnalystCollection;
 import org.palladiosimulator.somox.analyzer.rules.service.EmptyCollection;
@@ -32,10 +34,16 @@ public class RuleEngineConfiguration extends AbstractMoxConfiguration implements
     public static final String RULE_ENGINE_SELECTED_DISCOVERERS = "org.palladiosimulator.somox.analyzer.rules.configuration.discoverers";
     public static final String RULE_ENGINE_ANALYST_CONFIG_PREFIX = "org.palladiosimulator.somox.analyzer.rules.configuration.analystconfig.";
     public static final String RULE_ENGINE_DISCOVERER_CONFIG_PREFIX = "org.palladiosimulator.somox.analyzer.rules.configuration.discovererconfig.";
+    public static final String RULE_ENGINE_PARALLELISM = "org.palladiosimulator.somox.analyzer.rules.configuration.parallelism";
+    public static final String RULE_ENGINE_MODEL_FORMAT = "org.palladiosimulator.somox.analyzer.rules.configuration.modelformat";
+    public static final String RULE_ENGINE_PROXY_RESOLUTION = "org.palladiosimulator.somox.analyzer.rules.configuration.proxyresolution";
     public static final String RULE_LIST_SEPARATOR = ";";
 
     private final FileLocationConfiguration fileLocations;
     private final Set<DefaultRule> rules;
+    private int parallelism;
+    private ModelFormat modelFormat;
+    private ProxyResolution proxyResolution;
     private final ServiceConfiguration<Analyst> analystConfig;
     private final ServiceConfiguration<Discoverer> discovererConfig;
 
@@ -47,6 +55,9 @@ public class RuleEngineConfiguration extends AbstractMoxConfiguration implements
 
     public RuleEngineConfiguration(Map<String, Object> attributes) {
         this.rules = new HashSet<>();
+        this.parallelism = 1;
+        this.modelFormat = ModelFormat.XMI;
+        this.proxyResolution = ProxyResolution.FULL;
         this.attributes = Objects.requireNonNull(attributes);
         this.fileLocations = new FileLocationConfiguration();
         ServiceCollection<Analyst> analystCollection = null;
@@ -88,6 +99,16 @@ public class RuleEngineConfiguration extends AbstractMoxConfiguration implements
         if (attributeMap.get(RULE_ENGINE_SELECTED_RULES) != null) {
             setSelectedRules(parseRules((Set<String>) attributeMap.get(RULE_ENGINE_SELECTED_RULES)));
         }
+        if (attributeMap.get(RULE_ENGINE_PARALLELISM) != null) {
+            setParallelism(parseParallelism(attributeMap.get(RULE_ENGINE_PARALLELISM)));
+        }
+        if (attributeMap.get(RULE_ENGINE_MODEL_FORMAT) != null) {
+            setModelFormat(ModelFormat.parse(String.valueOf(attributeMap.get(RULE_ENGINE_MODEL_FORMAT))));
+        }
+        if (attributeMap.get(RULE_ENGINE_PROXY_RESOLUTION) != null) {
+            setProxyResolution(
+                    ProxyResolution.parse(String.valueOf(attributeMap.get(RULE_ENGINE_PROXY_RESOLUTION))));
+        }
         analystConfig.applyAttributeMap(attributeMap);
         discovererConfig.applyAttributeMap(attributeMap);
     }
@@ -133,6 +154,9 @@ public class RuleEngineConfiguration extends AbstractMoxConfiguration implements
         result.put(RULE_ENGINE_INPUT_PATH, getInputFolder());
         result.put(RULE_ENGINE_OUTPUT_PATH, getOutputFolder());
         result.put(RULE_ENGINE_SELECTED_RULES, serializeRules(rules));
+        result.put(RULE_ENGINE_PARALLELISM, String.valueOf(parallelism));
+        result.put(RULE_ENGINE_MODEL_FORMAT, modelFormat.toString());
+        result.put(RULE_ENGINE_PROXY_RESOLUTION, proxyResolution.toString());
         result.putAll(analystConfig.toMap());
         result.putAll(discovererConfig.toMap());
 
@@ -148,6 +172,63 @@ public class RuleEngineConfiguration extends AbstractMoxConfiguration implements
         return rules;
     }
 
+    /**
+     * Returns the number of worker threads the rules are executed and the Java files are parsed
+     * with. A value of {@code 1} executes all rules sequentially. Only the EMFText rules are
+     * executed in parallel, the JDT rules are not thread-safe. A value greater than {@code 1}
+     * forces {@link org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution#FULL full}
+     * proxy resolution. The Java files are only parsed in parallel if the rules are applied while
+     * parsing.
+     *
+     * @return the number of worker threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism has to be at least 1, but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the format the JaMoPP models are saved in.
+     *
+     * @return the model format
+     */
+    public ModelFormat getModelFormat() {
+        return modelFormat;
+    }
+
+    public void setModelFormat(ModelFormat modelFormat) {
+        this.modelFormat = Objects.requireNonNull(modelFormat);
+    }
+
+    /**
+     * Returns how the proxies of the JaMoPP models are resolved after parsing.
+     *
+     * @return the proxy resolution
+     */
+    public ProxyResolution getProxyResolution() {
+        return proxyResolution;
+    }
+
+    public void setProxyResolution(ProxyResolution proxyResolution) {
+        this.proxyResolution = Objects.requireNonNull(proxyResolution);
+    }
+
+    private static int parseParallelism(Object parallelism) {
+        try {
+            return Math.max(1, Integer.parseInt(String.valueOf(parallelism)
+                .strip()));
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid parallelism \"" + parallelism + "\", executing rules sequentially");
+            return 1;
+        }
+    }
+
     public static Set<DefaultRule> parseRules(Set<String> strRules) {
         Set<DefaultRule> rules = new HashSet<>();
         for (String rule : strRules) {
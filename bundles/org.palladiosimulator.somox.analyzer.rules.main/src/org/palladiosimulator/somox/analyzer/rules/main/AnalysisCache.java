@@ -0,0 +1,276 @@
+package org.palladiosimulator.somox.analyzer.rules.main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.engine.FileIndex;
+
+/**
+ * Remembers the content hashes of all files of a project, the selected rules and the settings of
+ * the last analysis in the output folder. If none of them changed since then, the saved
+ * repositories are still valid and the analysis does not have to be repeated. Jars inside the
+ * project are hashed like any other file. Only the command line application uses the cache, its
+ * JaMoPP parser does not depend on files outside of the project.
+ *
+ * The files are hashed once, by {@link #snapshot()} or the first check. This has to happen before
+ * the analysis starts, so that files changed while it runs are detected by the next one.
+ *
+ * The detected facts refer to the parsed compilation units, so they cannot be reused for single
+ * files. Any changed file therefore invalidates the whole cache.
+ */
+public class AnalysisCache {
+    private static final Logger LOG = Logger.getLogger(AnalysisCache.class);
+
+    /**
+     * Has to be increased whenever the results of the rule engine change for the same input.
+     */
+    private static final String VERSION = "2";
+    private static final String CACHE_FILE_NAME = "ruleEngine.cache";
+    private static final String VERSION_KEY = "version";
+    private static final String RULES_KEY = "rules";
+    private static final String FILE_KEY_PREFIX = "file:";
+    private static final String SETTING_KEY_PREFIX = "setting:";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path projectPath;
+    private final Path outPath;
+    private final Path cacheFile;
+    private final String rules;
+    private final Map<String, String> settings;
+    private Map<String, String> fileHashes;
+
+    public AnalysisCache(Path projectPath, Path outPath, Set<DefaultRule> rules) {
+        this.projectPath = projectPath.toAbsolutePath()
+            .normalize();
+        this.outPath = outPath.toAbsolutePath()
+            .normalize();
+        this.cacheFile = this.outPath.resolve(CACHE_FILE_NAME);
+        final Set<String> ruleNames = new TreeSet<>();
+        for (final DefaultRule rule : rules) {
+            ruleNames.add(rule.name());
+        }
+        this.rules = String.join(",", ruleNames);
+        this.settings = new TreeMap<>();
+    }
+
+    /**
+     * Adds a setting that changes the results of the analysis, e.g. the proxy resolution or a
+     * discoverer option, to the state compared with the last analysis.
+     *
+     * @param key
+     *            the name of the setting
+     * @param value
+     *            the value of the setting, may be {@code null}
+     */
+    public void putSetting(String key, Object value) {
+        settings.put(key, String.valueOf(value));
+    }
+
+    /**
+     * Hashes the project files now, unless this has already happened. {@link #save()} records the
+     * state of this snapshot.
+     */
+    public void snapshot() {
+        getFileHashes();
+    }
+
+    /**
+     * Checks whether the last analysis used the same rules on the same files and whether all given
+     * outputs of it still exist.
+     *
+     * @param outputs
+     *            the files the analysis saved, e.g. the repositories
+     * @return whether the outputs are still up to date
+     */
+    public boolean isUpToDate(Collection<Path> outputs) {
+        for (final Path output : outputs) {
+            if (!Files.isRegularFile(output)) {
+                return false;
+            }
+        }
+        // Hash the files even if the check fails, so that the analysis records their current state
+        final Map<String, String> currentHashes = getFileHashes();
+        final Properties stored = load();
+        if (stored == null || !VERSION.equals(stored.getProperty(VERSION_KEY))
+                || !rules.equals(stored.getProperty(RULES_KEY))) {
+            return false;
+        }
+        if (!settings.equals(getEntries(stored, SETTING_KEY_PREFIX))) {
+            LOG.info("The settings changed since the last analysis");
+            return false;
+        }
+
+        final Set<String> changedFiles = getChangedFiles(getEntries(stored, FILE_KEY_PREFIX), currentHashes);
+        if (!changedFiles.isEmpty()) {
+            LOG.info(changedFiles.size() + " files changed since the last analysis");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Updates the snapshot for the given files and directories only, e.g. those reported by a file
+     * watcher, instead of hashing the whole project again. Deleted paths are removed from it.
+     *
+     * @param changes
+     *            the changed files and directories
+     */
+    public void update(Collection<Path> changes) {
+        final Map<String, String> hashes = getFileHashes();
+        for (final Path change : changes) {
+            final Path normalizedChange = change.toAbsolutePath()
+                .normalize();
+            if (!normalizedChange.startsWith(projectPath) || normalizedChange.startsWith(outPath)) {
+                continue;
+            }
+            // Forget everything at and below the changed path, then hash what exists now
+            hashes.keySet()
+                .removeIf(file -> projectPath.resolve(file)
+                    .startsWith(normalizedChange));
+            if (Files.exists(normalizedChange)) {
+                hashFiles(normalizedChange);
+            }
+        }
+    }
+
+    /**
+     * Remembers the files of the {@link #snapshot()}, the rules and the settings as analyzed. Has to be called after the outputs have been saved.
+     */
+    public void save() {
+        final Properties properties = new Properties();
+        properties.setProperty(VERSION_KEY, VERSION);
+        properties.setProperty(RULES_KEY, rules);
+        putEntries(properties, SETTING_KEY_PREFIX, settings);
+        putEntries(properties, FILE_KEY_PREFIX, getFileHashes());
+        try {
+            Files.createDirectories(outPath);
+            try (OutputStream output = Files.newOutputStream(cacheFile)) {
+                properties.store(output, "Rule engine analysis cache");
+            }
+        } catch (final IOException e) {
+            LOG.warn("Could not save the analysis cache to " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Forgets the last analysis, e.g. because it failed.
+     */
+    public void invalidate() {
+        try {
+            Files.deleteIfExists(cacheFile);
+        } catch (final IOException e) {
+            LOG.warn("Could not delete the analysis cache " + cacheFile, e);
+        }
+    }
+
+    private Properties load() {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        final Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(cacheFile)) {
+            properties.load(input);
+        } catch (final IOException | IllegalArgumentException e) {
+            LOG.warn("Could not read the analysis cache " + cacheFile, e);
+            return null;
+        }
+        return properties;
+    }
+
+    private Map<String, String> getFileHashes() {
+        if (fileHashes == null) {
+            fileHashes = new HashMap<>();
+            hashFiles(projectPath);
+        }
+        return fileHashes;
+    }
+
+    private void hashFiles(Path start) {
+        final FileIndex files = new FileIndex(start);
+        for (final Path file : files.getFiles()) {
+            final Path normalizedFile = file.toAbsolutePath()
+                .normalize();
+            // The outputs of the analysis may be located inside the project
+            if (normalizedFile.startsWith(outPath)) {
+                continue;
+            }
+            fileHashes.put(projectPath.relativize(normalizedFile)
+                .toString(), hash(normalizedFile));
+        }
+    }
+
+    private static Map<String, String> getEntries(Properties properties, String prefix) {
+        final Map<String, String> entries = new TreeMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                entries.put(key.substring(prefix.length()), properties.getProperty(key));
+            }
+        }
+        return entries;
+    }
+
+    private static void putEntries(Properties properties, String prefix, Map<String, String> entries) {
+        for (final Entry<String, String> entry : entries.entrySet()) {
+            properties.setProperty(prefix + entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Set<String> getChangedFiles(Map<String, String> oldHashes, Map<String, String> newHashes) {
+        final Set<String> changedFiles = new HashSet<>();
+        for (final Entry<String, String> entry : newHashes.entrySet()) {
+            if (entry.getValue()
+                .isEmpty()
+                    || !entry.getValue()
+                        .equals(oldHashes.get(entry.getKey()))) {
+                changedFiles.add(entry.getKey());
+            }
+        }
+        for (final String file : oldHashes.keySet()) {
+            if (!newHashes.containsKey(file)) {
+                changedFiles.add(file);
+            }
+        }
+        return changedFiles;
+    }
+
+    private static String hash(Path file) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (final IOException e) {
+            // An unreadable file never matches, so the analysis is repeated
+            LOG.warn("Could not hash " + file, e);
+            return "";
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,146 @@
+package org.palladiosimulator.somox.analyzer.rules.main;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.emftext.language.java.containers.impl.CompilationUnitImpl;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.somox.analyzer.rules.engine.ClasspathLock;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelWriter;
+import org.palladiosimulator.somox.analyzer.rules.engine.ParserAdapter;
+import org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution;
+import org.somox.sourcecodedecorator.SourceCodeDecoratorRepository;
+
+/**
+ * The state of a single analysis: its JaMoPP parse, the writer its models are saved with and the
+ * resulting repositories. Since nothing of it is shared, several analyses can run in one JVM at
+ * the same time. Only parsing with JaMoPP is serialized by the {@link ClasspathLock}. Unless the
+ * proxies are fully resolved, the lock is held until the context is closed, which serializes
+ * whole analyses.
+ *
+ * The context has to be closed once the analysis is done. The repositories stay available after
+ * that.
+ */
+public class AnalysisContext implements AutoCloseable {
+    private static final Logger LOG = Logger.getLogger(AnalysisContext.class);
+
+    private final ModelWriter writer;
+    private ClasspathLock classpathLock;
+
+    private Repository emfTextPcm;
+    private Repository eclipsePcm;
+    private SourceCodeDecoratorRepository decoratorRepository;
+
+    public AnalysisContext() {
+        this.writer = new ModelWriter();
+    }
+
+    /**
+     * Parses a project with JaMoPP and saves the model with the {@link #getWriter() writer}. If
+     * not all proxies are resolved right away, the JaMoPP classpath is kept for this analysis
+     * until the context is closed, so that the remaining proxies can be resolved on demand. Other
+     * analyses in this JVM that parse with JaMoPP wait until then.
+     *
+     * @param in
+     *            the project directory
+     * @param outDir
+     *            the directory to save the model to
+     * @param format
+     *            the format of the saved model
+     * @param resolution
+     *            how the proxies of the model are resolved
+     * @return the relevant compilation units
+     */
+    public List<CompilationUnitImpl> parseJaMoPP(Path in, Path outDir, ModelFormat format,
+            ProxyResolution resolution) {
+        // A classpath kept for an earlier parse of this analysis is still needed by its model
+        final ClasspathLock lock = classpathLock != null ? classpathLock : ClasspathLock.acquire();
+        boolean keepClasspath = lock == classpathLock;
+        try {
+            final List<CompilationUnitImpl> roots = ParserAdapter.generateModelForPath(in, outDir, format,
+                    resolution, writer);
+            if (resolution != ProxyResolution.FULL && !keepClasspath) {
+                LOG.warn("Keeping the JaMoPP classpath until the analysis is done for the " + resolution
+                        + " proxy resolution, other analyses in this JVM wait until then. Use " + ProxyResolution.FULL
+                        + " proxy resolution to run them concurrently.");
+                keepClasspath = true;
+            }
+            return roots;
+        } finally {
+            if (keepClasspath) {
+                classpathLock = lock;
+            } else {
+                lock.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the writer the models of this analysis are saved with.
+     */
+    public ModelWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Waits until all models of this analysis are saved.
+     *
+     * @throws IOException
+     *             if a model could not be saved
+     */
+    public void awaitWrites() throws IOException {
+        writer.awaitCompletion();
+    }
+
+    /**
+     * Returns the PCM repository of the analysis, preferring the one created from the Eclipse
+     * model.
+     *
+     * @return the PCM repository or {@code null} if none has been created yet
+     */
+    public Repository getPCMRepository() {
+        // TODO choose a repository
+        if (eclipsePcm == null) {
+            return emfTextPcm;
+        }
+        return eclipsePcm;
+    }
+
+    public Repository getEMFTextPCMRepository() {
+        return emfTextPcm;
+    }
+
+    void setEMFTextPCMRepository(Repository emfTextPcm) {
+        this.emfTextPcm = emfTextPcm;
+    }
+
+    public Repository getEclipsePCMRepository() {
+        return eclipsePcm;
+    }
+
+    void setEclipsePCMRepository(Repository eclipsePcm) {
+        this.eclipsePcm = eclipsePcm;
+    }
+
+    /**
+     * @return the decorator repository, which is not created by the rule engine so far
+     */
+    public SourceCodeDecoratorRepository getDecoratorRepository() {
+        return decoratorRepository;
+    }
+
+    /**
+     * Stops the writer once the submitted models are saved and releases the JaMoPP classpath.
+     */
+    @Override
+    public void close() {
+        writer.close();
+        if (classpathLock != null) {
+            classpathLock.close();
+            classpathLock = null;
+        }
+    }
+}
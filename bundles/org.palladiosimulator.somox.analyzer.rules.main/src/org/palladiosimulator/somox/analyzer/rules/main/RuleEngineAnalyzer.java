@@ -2,12 +2,13 @@ package org.palladiosimulator.somox.analyzer.rules.main;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -15,36 +16,49 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
-import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.emftext.language.java.containers.ContainersPackage;
 import org.emftext.language.java.containers.impl.CompilationUnitImpl;
-import org.palladiosimulator.generator.fluent.shared.util.ModelSaver;
 import org.palladiosimulator.generator.fluent.system.api.ISystem;
 import org.palladiosimulator.generator.fluent.system.factory.FluentSystemFactory;
 import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.repository.RepositoryComponent;
 import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.all.RuleBackend;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
+import org.palladiosimulator.somox.analyzer.rules.engine.BuildFileDispatcher;
 import org.palladiosimulator.somox.analyzer.rules.engine.DockerParser;
+import org.palladiosimulator.somox.analyzer.rules.engine.IPCMDetector;
 import org.palladiosimulator.somox.analyzer.rules.engine.IRule;
 import org.palladiosimulator.somox.analyzer.rules.engine.EMFTextPCMDetector;
 import org.palladiosimulator.somox.analyzer.rules.engine.EMFTextPCMInstanceCreator;
 import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMDetector;
 import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMInstanceCreator;
+import org.palladiosimulator.somox.analyzer.rules.engine.FileIndex;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelWriter;
 import org.palladiosimulator.somox.analyzer.rules.engine.ParserAdapter;
+import org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution;
 import org.palladiosimulator.somox.discoverer.JavaDiscoverer;
+import org.palladiosimulator.somox.discoverer.JdtParserJob;
+import org.palladiosimulator.somox.discoverer.YamlDiscoverer;
 import org.apache.log4j.Logger;
 import org.somox.analyzer.AnalysisResult;
 import org.somox.analyzer.ModelAnalyzer;
@@ -72,10 +86,19 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
 
     private RuleEngineBlackboard blackboard;
 
-    private static Repository emfTextPcm;
-    private static Repository eclipsePcm;
+    private AnalysisContext context;
 
-    private static SourceCodeDecoratorRepository deco;
+    /**
+     * The context of the analysis that finished last in this JVM, for the deprecated static
+     * accessors.
+     */
+    private static volatile AnalysisContext lastContext;
+
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private static final String EMFTEXT_PCM_NAME = "emfTextPcm";
+    private static final String ECLIPSE_PCM_NAME = "eclipsePcm";
+    private static final String REPOSITORY_EXTENSION = ".repository";
 
     public RuleEngineAnalyzer(RuleEngineBlackboard blackboard) {
         this.blackboard = blackboard;
@@ -93,22 +116,42 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
     }
 
     /**
-     * Returns the current PCM repository model of the engine
+     * Returns the context of the last analysis of this analyzer, which holds its repository models.
+     *
+     * @return the context, or {@code null} if this analyzer has not analyzed anything yet
+     */
+    public AnalysisContext getAnalysisContext() {
+        return context;
+    }
+
+    /**
+     * Returns the PCM repository model of the analysis that finished last in this JVM, which is
+     * not well-defined if several analyses run at the same time.
      *
      * @return the PCM repository model
+     * @deprecated The repositories are kept per analysis, use
+     *             {@link AnalysisContext#getPCMRepository()} of {@link #getAnalysisContext()}
+     *             instead.
      */
+    @Deprecated
     public static Repository getPCMRepository() {
-        // TODO choose a repository
-        return eclipsePcm;
+        final AnalysisContext last = lastContext;
+        return last == null ? null : last.getPCMRepository();
     }
 
     /**
-     * Returns the current SourceCodeDecoratorRepository model of the engine
+     * Returns the SourceCodeDecoratorRepository model of the analysis that finished last in this
+     * JVM, which is not well-defined if several analyses run at the same time.
      *
      * @return the SourceCodeDecoratorRepository model
+     * @deprecated The repositories are kept per analysis, use
+     *             {@link AnalysisContext#getDecoratorRepository()} of {@link #getAnalysisContext()}
+     *             instead.
      */
+    @Deprecated
     public static SourceCodeDecoratorRepository getDecoratorRepository() {
-        return deco;
+        final AnalysisContext last = lastContext;
+        return last == null ? null : last.getDecoratorRepository();
     }
 
     @Override
@@ -118,7 +161,12 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
 
         this.status = RUNNING;
 
-        try {
+        final SubMonitor subMonitor = SubMonitor.convert(progressMonitor, "Rule engine analysis", 100);
+        // Each analysis has its own context, so that several can run at the same time. Its models
+        // are saved while the analysis goes on.
+        final AnalysisContext context = new AnalysisContext();
+        this.context = context;
+        try (context) {
             final URI in = CommonPlugin.asLocalURI(ruleEngineConfiguration.getInputFolder());
             final Path inPath = Paths.get(in.devicePath());
 
@@ -126,6 +174,14 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
             final Path outPath = Paths.get(out.devicePath());
 
             final Set<DefaultRule> rules = ruleEngineConfiguration.getSelectedRules();
+            final int parallelism = ruleEngineConfiguration.getParallelism();
+            final ProxyResolution resolution = ruleEngineConfiguration.getProxyResolution()
+                .forParallelism(parallelism);
+
+            // The analysis cache is not used here. The jobs after the analyzer read the detectors
+            // and locations from the blackboard, which cannot be restored from the saved
+            // repositories.
+            subMonitor.split(2);
 
             // Collect CompilationUnits of both kinds
             final Map<String, CompilationUnit> eclipseRoots = fetchEclipseCompilationUnits();
@@ -136,10 +192,50 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
                 blackboard.addCompilationUnitLocation(wrappedUnit, Path.of(path));
             }
 
-            final List<CompilationUnitImpl> emfTextRoots = ParserAdapter.generateModelForPath(inPath, outPath);
-            wrappedRoots.addAll(CompilationUnitWrapper.wrap(emfTextRoots));
-
-            executeWith(inPath, outPath, wrappedRoots, rules, blackboard);
+            // JaMoPP is only executed if some rule works on its model. It cannot be canceled while
+            // parsing, so cancellation is checked right before and after it.
+            if (RuleBackend.EMFTEXT.isRequiredBy(rules)) {
+                subMonitor.subTask("Parsing the JaMoPP model");
+                if (subMonitor.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+                // The JDT parser job may have parsed the project already
+                final ResourceSet parsedModel = fetchJaMoPPModel(blackboard);
+                final List<CompilationUnitImpl> emfTextRoots;
+                if (parsedModel != null) {
+                    LOG.info("Reusing the JaMoPP model of the JDT parser job");
+                    emfTextRoots = ParserAdapter.generateModelForResourceSet(parsedModel, outPath,
+                            ruleEngineConfiguration.getModelFormat(), resolution, context.getWriter());
+                } else {
+                    emfTextRoots = context.parseJaMoPP(inPath, outPath, ruleEngineConfiguration.getModelFormat(),
+                            resolution);
+                }
+                wrappedRoots.addAll(CompilationUnitWrapper.wrap(emfTextRoots));
+            }
+            // The model is only referenced by the roots from now on, it is released with them
+            if (blackboard.hasPartition(JdtParserJob.RESOURCE_SET_ID)) {
+                blackboard.removePartition(JdtParserJob.RESOURCE_SET_ID);
+            }
+            subMonitor.split(30);
+
+            executeWith(context, inPath, outPath, wrappedRoots, rules, blackboard, parallelism,
+                    subMonitor.split(68));
+            context.awaitWrites();
+            lastContext = context;
+        } catch (OperationCanceledException e) {
+            // Release everything this analysis added to the blackboard
+            blackboard.clearAnalysisState();
+            if (blackboard.hasPartition(JavaDiscoverer.DISCOVERER_ID)) {
+                blackboard.removePartition(JavaDiscoverer.DISCOVERER_ID);
+            }
+            if (blackboard.hasPartition(JavaDiscoverer.APPLIED_RULES_ID)) {
+                blackboard.removePartition(JavaDiscoverer.APPLIED_RULES_ID);
+            }
+            if (blackboard.hasPartition(JdtParserJob.RESOURCE_SET_ID)) {
+                blackboard.removePartition(JdtParserJob.RESOURCE_SET_ID);
+            }
+            LOG.info("The analysis has been canceled");
+            throw e;
         } catch (Exception e) {
             throw new ModelAnalyzerException(e.getMessage());
         } finally {
@@ -149,6 +245,90 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
         return this.initializeAnalysisResult();
     }
 
+    /**
+     * Checks whether the repositories saved by the last analysis are up to date and can be loaded,
+     * see {@link #loadUpToDateResult(AnalysisContext, AnalysisCache, Path, Set)}.
+     *
+     * @param cache
+     *            the analysis cache of the project and the output directory
+     * @param outPath
+     *            the output directory
+     * @param rules
+     *            the selected rules
+     * @return whether the repositories were up to date
+     */
+    public static boolean loadUpToDateResult(AnalysisCache cache, Path outPath, Set<DefaultRule> rules) {
+        try (AnalysisContext context = new AnalysisContext()) {
+            return loadUpToDateResult(context, cache, outPath, rules);
+        }
+    }
+
+    /**
+     * Loads the repositories saved by the last analysis into the {@code context}, if the
+     * {@code cache} shows that neither the project files nor the rules changed since then.
+     *
+     * @param context
+     *            the context of the analysis
+     * @param cache
+     *            the analysis cache of the project and the output directory
+     * @param outPath
+     *            the output directory
+     * @param rules
+     *            the selected rules
+     * @return whether the repositories were up to date and have been loaded
+     */
+    public static boolean loadUpToDateResult(AnalysisContext context, AnalysisCache cache, Path outPath,
+            Set<DefaultRule> rules) {
+        final Path emfTextPcmPath = outPath.resolve(EMFTEXT_PCM_NAME + REPOSITORY_EXTENSION);
+        final Path eclipsePcmPath = outPath.resolve(ECLIPSE_PCM_NAME + REPOSITORY_EXTENSION);
+        final List<Path> outputs = new ArrayList<>();
+        if (createsEMFTextPcm(rules)) {
+            outputs.add(emfTextPcmPath);
+        }
+        if (createsEclipsePcm(rules)) {
+            outputs.add(eclipsePcmPath);
+        }
+        if (!cache.isUpToDate(outputs)) {
+            return false;
+        }
+
+        try {
+            context.setEMFTextPCMRepository(createsEMFTextPcm(rules) ? loadRepository(emfTextPcmPath) : null);
+            context.setEclipsePCMRepository(createsEclipsePcm(rules) ? loadRepository(eclipsePcmPath) : null);
+        } catch (final RuntimeException e) {
+            LOG.warn("Could not load the repositories of the last analysis", e);
+            cache.invalidate();
+            return false;
+        }
+        LOG.info("Reusing the repositories of the last analysis, since no file changed");
+        return true;
+    }
+
+    private static Repository loadRepository(Path path) {
+        final Resource resource = new ResourceSetImpl().getResource(URI.createFileURI(path.toAbsolutePath()
+            .toString()), true);
+        final List<EObject> contents = resource.getContents();
+        if (contents.isEmpty() || !(contents.get(0) instanceof Repository)) {
+            throw new IllegalStateException(path + " does not contain a repository");
+        }
+        return (Repository) contents.get(0);
+    }
+
+    /**
+     * Whether a repository is created from the EMFText model, i.e. some rule works on it.
+     */
+    private static boolean createsEMFTextPcm(Set<DefaultRule> rules) {
+        return RuleBackend.EMFTEXT.isRequiredBy(rules);
+    }
+
+    /**
+     * Whether a repository is created from the Eclipse model. If no rule works on a parsed model,
+     * an (eclipse) repository is still created for the build files.
+     */
+    private static boolean createsEclipsePcm(Set<DefaultRule> rules) {
+        return RuleBackend.ECLIPSE.isRequiredBy(rules) || !createsEMFTextPcm(rules);
+    }
+
     private Map<String, CompilationUnit> fetchEclipseCompilationUnits() {
         // TODO Select a partition name
         if (!blackboard.hasPartition(JavaDiscoverer.DISCOVERER_ID)) {
@@ -176,15 +356,82 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
     }
 
     /**
-     * Tries to find the files for the CompilationUnits in the {@code root} directory. Both takes
-     * the CompilationUnits from and saves the associations to the given {@code blackboard}.
+     * Returns the rules the {@link JavaDiscoverer} already applied while parsing.
+     *
+     * @param blackboard
+     *            the blackboard the discoverer saved its partition to
+     * @return the applied rules or an empty set if the discoverer did not apply any
+     */
+    private static Set<DefaultRule> fetchAppliedRules(RuleEngineBlackboard blackboard) {
+        if (!blackboard.hasPartition(JavaDiscoverer.APPLIED_RULES_ID)) {
+            return Collections.emptySet();
+        }
+        final Object appliedRulesPartition = blackboard.getPartition(JavaDiscoverer.APPLIED_RULES_ID);
+        if (!(appliedRulesPartition instanceof Set<?>)) {
+            return Collections.emptySet();
+        }
+        final Set<DefaultRule> appliedRules = new HashSet<>();
+        for (final Object rule : (Set<?>) appliedRulesPartition) {
+            if (rule instanceof DefaultRule) {
+                appliedRules.add((DefaultRule) rule);
+            }
+        }
+        return appliedRules;
+    }
+
+    /**
+     * Returns the JaMoPP model already parsed by the {@link JdtParserJob}.
+     *
+     * @param blackboard
+     *            the blackboard the discoverer saved its partition to
+     * @return the parsed model or {@code null} if there is no such partition
+     */
+    private static ResourceSet fetchJaMoPPModel(RuleEngineBlackboard blackboard) {
+        if (!blackboard.hasPartition(JdtParserJob.RESOURCE_SET_ID)) {
+            return null;
+        }
+        final Object modelPartition = blackboard.getPartition(JdtParserJob.RESOURCE_SET_ID);
+        if (!(modelPartition instanceof ResourceSet)) {
+            return null;
+        }
+        return (ResourceSet) modelPartition;
+    }
+
+    /**
+     * Returns the YAML documents already parsed by the {@link YamlDiscoverer}, so that they do not
+     * have to be read again.
+     *
+     * @param blackboard
+     *            the blackboard the discoverer saved its partition to
+     * @return the documents by their absolute path or an empty map if there is no such partition
+     */
+    private static Map<String, Object> fetchYamlDocuments(RuleEngineBlackboard blackboard) {
+        if (!blackboard.hasPartition(YamlDiscoverer.DISCOVERER_ID)) {
+            return new HashMap<>();
+        }
+        Object yamlPartition = blackboard.getPartition(YamlDiscoverer.DISCOVERER_ID);
+        if (!(yamlPartition instanceof Map<?, ?>)) {
+            return new HashMap<>();
+        }
+        final Map<String, Object> yamlDocuments = new HashMap<>();
+        for (Entry<?, ?> entry : ((Map<?, ?>) yamlPartition).entrySet()) {
+            if (entry.getKey() instanceof String) {
+                yamlDocuments.put((String) entry.getKey(), entry.getValue());
+            }
+        }
+        return yamlDocuments;
+    }
+
+    /**
+     * Tries to find the files for the CompilationUnits in the indexed directory. Both takes the
+     * CompilationUnits from and saves the associations to the given {@code blackboard}.
      * 
-     * @param roots
-     *            the directory to search in
+     * @param files
+     *            the index of the directory to search in
      * @param blackboard
      *            the blackboard to save to
      */
-    private static void findFilesForCompilationUnits(Path root, RuleEngineBlackboard blackboard) {
+    private static void findFilesForCompilationUnits(FileIndex files, RuleEngineBlackboard blackboard) {
         for (CompilationUnitWrapper compilationUnitWrapper : blackboard.getCompilationUnits()) {
             if (compilationUnitWrapper.isEclipseCompilationUnit()) {
                 // The file search is not necessary for eclipse compilation units,
@@ -193,17 +440,12 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
             }
             CompilationUnitImpl compilationUnit = compilationUnitWrapper.getEMFTextCompilationUnit();
             List<String> pathSegments = new LinkedList<>(compilationUnit.getContainingPackageName());
-            pathSegments.add(compilationUnit.getName());
-            String guessedPath = String.join(File.separator, pathSegments) + ".java";
-
-            try {
-                Files.walk(root)
-                    .filter(Files::isRegularFile)
-                    .filter(x -> x.endsWith(guessedPath))
-                    .forEach(x -> blackboard.addCompilationUnitLocation(compilationUnitWrapper, x));
-            } catch (IOException e) {
-                LOG.warn("An IOException occurred while searching for the files containing the CompilationUnits!");
-            }
+            pathSegments.add(compilationUnit.getName() + ".java");
+            Path guessedPath = Paths.get(pathSegments.get(0), pathSegments.subList(1, pathSegments.size())
+                .toArray(String[]::new));
+
+            files.getFilesEndingWith(guessedPath)
+                .forEach(x -> blackboard.addCompilationUnitLocation(compilationUnitWrapper, x));
         }
     }
 
@@ -221,12 +463,99 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
      */
     public static void executeWith(Path projectPath, Path outPath, List<CompilationUnitWrapper> model,
             Set<DefaultRule> rules) {
-        executeWith(projectPath, outPath, model, rules, new RuleEngineBlackboard());
+        executeWith(projectPath, outPath, model, rules, 1);
+    }
+
+    /**
+     * Extracts PCM elements out of an existing JaMoPP model using an IRule file. The rules are
+     * executed on {@code parallelism} worker threads. The result is the same as for a sequential
+     * execution. For a parallel execution, the JaMoPP model has to be fully resolved, see
+     * {@link ProxyResolution#forParallelism(int)}.
+     *
+     * @param projectPath
+     *            the project directory
+     * @param outPath
+     *            the output directory
+     * @param model
+     *            the JaMoPP model
+     * @param ruleDoc
+     *            the object containing the rules
+     * @param parallelism
+     *            the number of worker threads, {@code 1} for a sequential execution
+     */
+    public static void executeWith(Path projectPath, Path outPath, List<CompilationUnitWrapper> model,
+            Set<DefaultRule> rules, int parallelism) {
+        executeWith(projectPath, outPath, model, rules, parallelism, new NullProgressMonitor());
+    }
+
+    /**
+     * Extracts PCM elements out of an existing JaMoPP model using an IRule file. The progress is
+     * reported per compilation unit and per build file.
+     *
+     * @param projectPath
+     *            the project directory
+     * @param outPath
+     *            the output directory
+     * @param model
+     *            the JaMoPP model
+     * @param ruleDoc
+     *            the object containing the rules
+     * @param parallelism
+     *            the number of worker threads, {@code 1} for a sequential execution
+     * @param monitor
+     *            the monitor to report the progress to
+     * @throws OperationCanceledException
+     *             if the monitor has been canceled
+     * @throws UncheckedIOException
+     *             if a repository could not be saved
+     */
+    public static void executeWith(Path projectPath, Path outPath, List<CompilationUnitWrapper> model,
+            Set<DefaultRule> rules, int parallelism, IProgressMonitor monitor) {
+        try (AnalysisContext context = new AnalysisContext()) {
+            executeWith(context, projectPath, outPath, model, rules, parallelism, monitor);
+        }
+    }
+
+    /**
+     * Extracts PCM elements out of an existing JaMoPP model using an IRule file. The created
+     * repositories are kept in the {@code context}. Returns once they are saved.
+     *
+     * @param context
+     *            the context of the analysis
+     * @param projectPath
+     *            the project directory
+     * @param outPath
+     *            the output directory
+     * @param model
+     *            the JaMoPP model
+     * @param ruleDoc
+     *            the object containing the rules
+     * @param parallelism
+     *            the number of worker threads, {@code 1} for a sequential execution
+     * @param monitor
+     *            the monitor to report the progress to
+     * @throws OperationCanceledException
+     *             if the monitor has been canceled
+     * @throws UncheckedIOException
+     *             if a repository could not be saved
+     */
+    public static void executeWith(AnalysisContext context, Path projectPath, Path outPath,
+            List<CompilationUnitWrapper> model, Set<DefaultRule> rules, int parallelism, IProgressMonitor monitor) {
+        executeWith(context, projectPath, outPath, model, rules, new RuleEngineBlackboard(), parallelism, monitor);
+        try {
+            context.awaitWrites();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastContext = context;
     }
 
     /**
      * Extracts PCM elements out of an existing JaMoPP model using an IRule file.
      *
+     * @param context
+     *            the context to keep the repositories in and to save them with, the caller awaits
+     *            the writes
      * @param projectPath
      *            the project directory
      * @param outPath
@@ -237,38 +566,47 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
      *            the object containing the rules
      * @param blackboard
      *            the rule engine blackboard
+     * @param parallelism
+     *            the number of worker threads, {@code 1} for a sequential execution
+     * @param monitor
+     *            the monitor to report the progress to
+     * @throws OperationCanceledException
+     *             if the monitor has been canceled
      */
-    private static void executeWith(Path projectPath, Path outPath, List<CompilationUnitWrapper> model,
-            Set<DefaultRule> rules, RuleEngineBlackboard blackboard) {
+    private static void executeWith(AnalysisContext context, Path projectPath, Path outPath,
+            List<CompilationUnitWrapper> model, Set<DefaultRule> rules, RuleEngineBlackboard blackboard,
+            int parallelism, IProgressMonitor monitor) {
+
+        final SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
 
-        // Set up blackboard
+        // Set up blackboard. If the Java discoverer already applied some rules while parsing, their
+        // detections are kept and they are not applied again.
+        final Set<DefaultRule> appliedRules = fetchAppliedRules(blackboard);
+        final Set<DefaultRule> pendingRules = new HashSet<>(rules);
+        pendingRules.removeAll(appliedRules);
         blackboard.setEMFTextPCMDetector(new EMFTextPCMDetector());
-        blackboard.setEclipsePCMDetector(new EclipsePCMDetector());
+        if (appliedRules.isEmpty()) {
+            blackboard.setEclipsePCMDetector(new EclipsePCMDetector(blackboard));
+        }
         blackboard.addCompilationUnits(model);
-        findFilesForCompilationUnits(projectPath, blackboard);
+
+        // Traverse projectPath only once, both for the compilation units and the build files
+        final FileIndex files = new FileIndex(projectPath);
+        findFilesForCompilationUnits(files, blackboard);
 
         // Look for build files in projectPath
-        Set<Path> buildPaths;
-        try {
-            buildPaths = Files.walk(projectPath)
-                .filter(Files::isRegularFile)
-                .collect(Collectors.toSet());
-        } catch (final IOException e) {
-            buildPaths = new HashSet<Path>();
-            e.printStackTrace();
-        }
+        final Set<Path> buildPaths = new HashSet<>(files.getFiles());
 
+        // Collect the paths of each unit in the order of the model. The paths of all units without
+        // an associated file are represented by a single null path.
+        final List<List<Path>> unitPaths = new ArrayList<>();
         boolean processedLocationless = false;
-        // For each unit, execute rules
         for (final CompilationUnitWrapper u : model) {
-            Set<Path> unitPaths = blackboard.getCompilationUnitLocations(u);
-            if (unitPaths.isEmpty()) {
+            Set<Path> paths = blackboard.getCompilationUnitLocations(u);
+            if (paths.isEmpty()) {
                 if (!processedLocationless) {
                     // Execute rules for all CompilationUnits without associated files
-                    for (final DefaultRule rule : rules) {
-                        rule.getRule(blackboard)
-                            .processRules(null);
-                    }
+                    unitPaths.add(Collections.singletonList(null));
                     processedLocationless = true;
                 }
                 continue;
@@ -279,38 +617,99 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
             // compilation units have been found.
 
             // It is assumed that files with compilation units cannot be build files
-            buildPaths.removeAll(unitPaths);
+            buildPaths.removeAll(paths);
 
-            for (final DefaultRule rule : rules) {
-                for (final Path path : unitPaths) {
-                    rule.getRule(blackboard)
-                        .processRules(path);
-                }
+            unitPaths.add(new ArrayList<>(paths));
+        }
+
+        // Each rule is instantiated once per run and blackboard. Rules that only process build files
+        // are not applied to the compilation units.
+        final Set<DefaultRule> unitRules = pendingRules.stream()
+            .filter(rule -> rule.getBackend() != RuleBackend.BUILD_FILES)
+            .collect(Collectors.toSet());
+        final List<IRule> ruleInstances = new ArrayList<>();
+        final List<IRule> unitRuleInstances = new ArrayList<>();
+        for (final DefaultRule rule : pendingRules) {
+            final IRule instance = rule.getRule(blackboard);
+            ruleInstances.add(instance);
+            if (unitRules.contains(rule)) {
+                unitRuleInstances.add(instance);
+            }
+        }
+        subMonitor.split(5);
+
+        // For each unit, execute rules
+        final SubMonitor unitMonitor = subMonitor.split(60)
+            .setWorkRemaining(unitPaths.size());
+        unitMonitor.subTask("Applying rules to the compilation units");
+        final boolean threadSafe = unitRuleInstances.stream()
+            .allMatch(IRule::isThreadSafe);
+        if (parallelism > 1 && unitPaths.size() > 1 && threadSafe) {
+            executeRulesInParallel(unitPaths, unitRules, blackboard, parallelism, unitMonitor);
+        } else {
+            if (parallelism > 1 && !threadSafe) {
+                LOG.info("Executing rules sequentially, since not all selected rules are thread-safe");
             }
+            executeRules(unitPaths, unitRuleInstances, unitMonitor);
         }
         LOG.info("Applied rules to the compilation units");
 
-        // For each potential build file, execute rules
-        for (final Path path : buildPaths) {
-            for (final DefaultRule rule : rules) {
-                rule.getRule(blackboard)
-                    .processRules(path);
+        // For each potential build file, execute the rules subscribed to it
+        final BuildFileDispatcher dispatcher = new BuildFileDispatcher(ruleInstances);
+        final SubMonitor buildFileMonitor = subMonitor.split(10)
+            .setWorkRemaining(buildPaths.size());
+        buildFileMonitor.subTask("Applying rules to the build files");
+        if (dispatcher.hasSubscriptions()) {
+            for (final Path path : buildPaths) {
+                buildFileMonitor.split(1);
+                dispatcher.dispatch(path);
             }
         }
+        for (final IRule rule : ruleInstances) {
+            rule.finish();
+        }
         LOG.info("Applied rules to the build files");
 
+        subMonitor.subTask("Creating the repositories");
+        subMonitor.split(5);
+
+        // Only the repositories of the backends used by the selected rules are created
+        final boolean createEMFTextPcm = createsEMFTextPcm(rules);
+        final boolean createEclipsePcm = createsEclipsePcm(rules);
+
         // TODO Which one should be used?
         // Parses the docker-compose file to get a mapping between microservice names and components
         // for creating composite components for each microservice
-        final DockerParser emfTextDockerParser = new DockerParser(projectPath, blackboard.getEMFTextPCMDetector());
-        final DockerParser eclipseDockerParser = new DockerParser(projectPath, blackboard.getEclipsePCMDetector());
-
-        final Map<String, List<CompilationUnitWrapper>> mapping = emfTextDockerParser.getMapping();
-        mapping.putAll(eclipseDockerParser.getMapping());
-
-        // Creates a PCM repository with systems, components, interfaces and roles
-        emfTextPcm = new EMFTextPCMInstanceCreator(blackboard).createPCM(mapping);
-        eclipsePcm = new EclipsePCMInstanceCreator(blackboard).createPCM(mapping);
+        final List<IPCMDetector> pcmDetectors = new ArrayList<>();
+        if (createEMFTextPcm) {
+            pcmDetectors.add(blackboard.getEMFTextPCMDetector());
+        }
+        if (createEclipsePcm) {
+            pcmDetectors.add(blackboard.getEclipsePCMDetector());
+        }
+        final Map<String, List<CompilationUnitWrapper>> mapping = new DockerParser(files, pcmDetectors,
+                fetchYamlDocuments(blackboard)).getMapping();
+
+        // Creates a PCM repository with systems, components, interfaces and roles. Each repository
+        // is persisted at ./****Pcm.repository as soon as it is complete.
+        final Repository emfTextPcm = createEMFTextPcm
+                ? new EMFTextPCMInstanceCreator(blackboard).createPCM(mapping)
+                : null;
+        context.setEMFTextPCMRepository(emfTextPcm);
+        if (emfTextPcm != null) {
+            saveRepository(emfTextPcm, outPath.resolve(EMFTEXT_PCM_NAME + REPOSITORY_EXTENSION),
+                    context.getWriter());
+        }
+        subMonitor.split(5);
+        final Repository eclipsePcm = createEclipsePcm
+                ? new EclipsePCMInstanceCreator(blackboard).createPCM(mapping)
+                : null;
+        context.setEclipsePCMRepository(eclipsePcm);
+        if (eclipsePcm != null) {
+            saveRepository(eclipsePcm, outPath.resolve(ECLIPSE_PCM_NAME + REPOSITORY_EXTENSION),
+                    context.getWriter());
+        }
+        subMonitor.split(5);
 
         // Create the build file systems
         Map<RepositoryComponent, CompilationUnitWrapper> repoCompLocations = blackboard
@@ -344,12 +743,99 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
                 blackboard.putSystemPath(system.createSystemNow(), entry.getKey());
             }
         }
+    }
 
-        // Persist the repository at ./****Pcm.repository
-        ModelSaver.saveRepository(emfTextPcm, outPath.resolve("emfTextPcm")
-            .toString(), false);
-        ModelSaver.saveRepository(eclipsePcm, outPath.resolve("eclipsePcm")
-            .toString(), false);
+    /**
+     * Submits a repository to the writer. Unlike {@code ModelSaver}, failures are not just printed
+     * but reported by the writer.
+     */
+    private static void saveRepository(Repository repository, Path path, ModelWriter writer) {
+        final Resource resource = ModelFormat.XMI.createResource(URI.createFileURI(path.toAbsolutePath()
+            .toString()));
+        new ResourceSetImpl().getResources()
+            .add(resource);
+        resource.getContents()
+            .add(repository);
+        writer.submit(path.getFileName()
+            .toString(), () -> resource.save(ModelFormat.XMI.getSaveOptions()));
+    }
+
+    private static List<IRule> createRules(Set<DefaultRule> rules, RuleEngineBlackboard blackboard) {
+        final List<IRule> ruleInstances = new ArrayList<>(rules.size());
+        for (final DefaultRule rule : rules) {
+            ruleInstances.add(rule.getRule(blackboard));
+        }
+        return ruleInstances;
+    }
+
+    private static void executeRules(List<List<Path>> unitPaths, List<IRule> rules, IProgressMonitor monitor) {
+        for (final List<Path> paths : unitPaths) {
+            if (monitor.isCanceled()) {
+                throw new OperationCanceledException();
+            }
+            monitor.worked(1);
+            for (final IRule rule : rules) {
+                for (final Path path : paths) {
+                    rule.processRules(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the rules on a pool of worker threads. The units are split into contiguous chunks,
+     * each of which is processed on its own shard of the blackboard. The shards are merged in the
+     * order of their chunks afterwards, so that the detections are the same as in a sequential
+     * execution.
+     */
+    private static void executeRulesInParallel(List<List<Path>> unitPaths, Set<DefaultRule> rules,
+            RuleEngineBlackboard blackboard, int parallelism, IProgressMonitor monitor) {
+        // The workers only check for cancellation, progress is reported for each merged shard
+        final IProgressMonitor cancellationMonitor = new NullProgressMonitor() {
+            @Override
+            public boolean isCanceled() {
+                return monitor.isCanceled();
+            }
+        };
+
+        // Use more chunks than workers to balance differently sized units
+        final int chunkCount = Math.min(unitPaths.size(), parallelism * CHUNKS_PER_WORKER);
+        final int chunkSize = (unitPaths.size() + chunkCount - 1) / chunkCount;
+
+        final List<Future<RuleEngineBlackboard>> shards = new ArrayList<>();
+        final List<Integer> shardSizes = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (int start = 0; start < unitPaths.size(); start += chunkSize) {
+                final List<List<Path>> chunk = unitPaths.subList(start,
+                        Math.min(start + chunkSize, unitPaths.size()));
+                final RuleEngineBlackboard shard = blackboard.createShard();
+                final List<IRule> shardRules = createRules(rules, shard);
+                shards.add(executor.submit(() -> {
+                    executeRules(chunk, shardRules, cancellationMonitor);
+                    return shard;
+                }));
+                shardSizes.add(chunk.size());
+            }
+
+            for (int i = 0; i < shards.size(); i++) {
+                blackboard.mergeShard(shards.get(i)
+                    .get());
+                monitor.worked(shardSizes.get(i));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new IllegalStateException("Interrupted while executing the rules", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof OperationCanceledException) {
+                throw (OperationCanceledException) e.getCause();
+            }
+            throw new IllegalStateException("A rule could not be executed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.info("Executed rules with " + parallelism + " workers in " + shards.size() + " shards");
     }
 
     /**
@@ -384,23 +870,18 @@ public class RuleEngineAnalyzer implements ModelAnalyzer<RuleEngineConfiguration
     }
 
     /**
-     * Loads an external JaMoPP model.
+     * Loads an external JaMoPP model. The model may have been saved in any {@link ModelFormat}.
      *
      * @return the JaMoPP model instances for each java file
      */
     public static List<CompilationUnitImpl> loadModel(URI model) {
         final ResourceSet rs = new ResourceSetImpl();
-        rs.getPackageRegistry()
-            .put(ContainersPackage.eNS_URI, ContainersPackage.eINSTANCE);
-        rs.getResourceFactoryRegistry()
-            .getExtensionToFactoryMap()
-            .put("containers", new XMIResourceFactoryImpl());
-
-        final Resource res = rs.createResource(model);
+        Resource res;
         try {
-            res.load(null);
+            res = ModelFormat.load(rs, model);
         } catch (final IOException e) {
-            e.printStackTrace();
+            LOG.error("Could not load the model " + model, e);
+            return new ArrayList<>();
         }
 
         final List<EObject> contents = res.getContents();
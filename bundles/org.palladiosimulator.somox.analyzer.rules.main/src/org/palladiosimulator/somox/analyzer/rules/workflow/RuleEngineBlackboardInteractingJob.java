@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
 import org.palladiosimulator.somox.analyzer.rules.main.RuleEngineAnalyzer;
@@ -40,6 +41,8 @@ public class RuleEngineBlackboardInteractingJob extends AbstractBlackboardIntera
     public void execute(IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
         try {
             myBlackboard.setAnalysisResult(new RuleEngineAnalyzer(getBlackboard()).analyze(configuration, extractionResults, monitor));
+        } catch (final OperationCanceledException e) {
+            throw new UserCanceledException();
         } catch (final ModelAnalyzerException e) {
             throw new JobFailedException(NAME + " Failed", e);
         }
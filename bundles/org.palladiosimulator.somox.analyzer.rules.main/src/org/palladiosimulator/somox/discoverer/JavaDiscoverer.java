@@ -2,20 +2,23 @@ package org.palladiosimulator.somox.discoverer;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.emf.common.CommonPlugin;
-import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.palladiosimulator.somox.analyzer.rules.all.RuleBackend;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
+import org.palladiosimulator.somox.analyzer.rules.engine.TypeSummaryIndex;
 
 import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
 import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
@@ -27,6 +30,28 @@ public class JavaDiscoverer implements Discoverer {
 
     public static final String DISCOVERER_ID = "org.palladiosimulator.somox.discoverer.java";
 
+    private static final String MAVEN_FILE_NAME = "pom.xml";
+
+    /**
+     * The configuration key to apply the rules while parsing, set to {@code true} to enable it. Only
+     * binding-free copies of the ASTs of detected components are kept then, which greatly reduces the
+     * required memory. The files are only parsed in batches and in parallel in this mode.
+     */
+    public static final String STREAMING_KEY = "Apply rules while parsing";
+
+    /**
+     * The configuration key to put every jar in the input folder on the classpath, set to
+     * {@code true} to enable it. By default, the classpath consists of the dependencies declared in
+     * the POMs, resolved against the local Maven repository.
+     */
+    public static final String SCAN_JARS_KEY = "Scan input folder for jars";
+
+    /**
+     * The partition holding the set of rules that have already been applied while parsing. It only
+     * exists in streaming mode.
+     */
+    public static final String APPLIED_RULES_ID = DISCOVERER_ID + ".appliedRules";
+
     @Override
     public IBlackboardInteractingJob<RuleEngineBlackboard> create(final RuleEngineConfiguration configuration,
             final RuleEngineBlackboard blackboard) {
@@ -41,29 +66,49 @@ public class JavaDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<String, CompilationUnit> compilationUnits = new HashMap<>();
-                final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-                parser.setKind(ASTParser.K_COMPILATION_UNIT);
-                parser.setResolveBindings(true);
-                parser.setBindingsRecovery(true);
-                parser.setStatementsRecovery(true);
-                final String[] classpathEntries = Discoverer.find(root, ".jar", logger)
-                    .toArray(String[]::new);
-                final String[] sourceFilePaths = Discoverer.find(root, ".java", logger)
-                    .toArray(String[]::new);
+                final Map<String, CompilationUnit> compilationUnits = new ConcurrentHashMap<>();
+                // The JDT ASTs are only built if some selected rule works on them
+                if (!RuleBackend.ECLIPSE.isRequiredBy(configuration.getSelectedRules())) {
+                    logger.info("Skipping the Java Discoverer, since no selected rule requires the JDT ASTs");
+                    getBlackboard().addPartition(DISCOVERER_ID, compilationUnits);
+                    return;
+                }
+                final boolean scanJars = Boolean.parseBoolean(configuration.getDiscovererConfig()
+                    .getConfig(DISCOVERER_ID, SCAN_JARS_KEY));
+                final List<String> classpathEntries = findClasspath(root, scanJars, logger);
+                // Lets the rule helpers look up types from exactly these jars without resolving their bindings
+                getBlackboard().setTypeSummaryIndex(TypeSummaryIndex.getShared()
+                    .createView(classpathEntries));
+                final List<String> sourceFilePaths = Discoverer.find(root, ".java", logger)
+                    .collect(Collectors.toList());
+                final boolean streaming = Boolean.parseBoolean(configuration.getDiscovererConfig()
+                    .getConfig(DISCOVERER_ID, STREAMING_KEY));
+                final FileASTRequestor requestor = streaming
+                        ? new StreamingASTRequestor(getBlackboard(), configuration.getSelectedRules())
+                        : new FileASTRequestor() {
+                            @Override
+                            public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
+                                compilationUnits.put(sourceFilePath, ast);
+                            }
+                        };
+                // The ASTs are visible on the blackboard as soon as their batch has been parsed
+                getBlackboard().addPartition(DISCOVERER_ID, compilationUnits);
                 try {
-                    parser.setEnvironment(classpathEntries, new String[0], new String[0], true);
-                    parser.createASTs(sourceFilePaths, new String[sourceFilePaths.length], new String[0],
-                            new FileASTRequestor() {
-                                @Override
-                                public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
-                                    compilationUnits.put(sourceFilePath, ast);
-                                }
-                            }, monitor);
+                    new JavaSourceParser(root, classpathEntries, sourceFilePaths).parse(requestor,
+                            configuration.getParallelism(), streaming, monitor);
+                } catch (OperationCanceledException e) {
+                    throw new UserCanceledException();
                 } catch (IllegalArgumentException | IllegalStateException e) {
                     logger.error(String.format("No Java files in %s could be transposed.", root), e);
                 }
-                getBlackboard().addPartition(DISCOVERER_ID, compilationUnits);
+                if (streaming) {
+                    final StreamingASTRequestor streamingRequestor = (StreamingASTRequestor) requestor;
+                    streamingRequestor.finish();
+                    compilationUnits.putAll(streamingRequestor.getComponents());
+                    getBlackboard().addPartition(APPLIED_RULES_ID, streamingRequestor.getAppliedRules());
+                    logger.info(String.format("Applied the rules while parsing, kept %d of %d compilation units",
+                            compilationUnits.size(), streamingRequestor.getProcessedUnits()));
+                }
             }
 
             @Override
@@ -73,9 +118,38 @@ public class JavaDiscoverer implements Discoverer {
         };
     }
 
+    /**
+     * Returns the jars to resolve the bindings against. Without POMs, the input folder is scanned
+     * for jars as well.
+     */
+    private static List<String> findClasspath(final Path root, final boolean scanJars, final Logger logger) {
+        final List<String> pomFiles = Discoverer.find(root, MAVEN_FILE_NAME, logger)
+            .filter(path -> Path.of(path)
+                .getFileName()
+                .toString()
+                .equalsIgnoreCase(MAVEN_FILE_NAME))
+            .collect(Collectors.toList());
+        if (scanJars || pomFiles.isEmpty()) {
+            logger.info(String.format("Putting all jars in %s on the classpath", root));
+            return Discoverer.find(root, ".jar", logger)
+                .collect(Collectors.toList());
+        }
+        final MavenClasspath classpath = new MavenClasspath(MavenClasspath.getDefaultLocalRepository())
+            .resolve(pomFiles);
+        if (!classpath.getUnresolved()
+            .isEmpty()) {
+            logger.warn(String.format(
+                    "%d declared dependencies are not in the local Maven repository, bindings to them cannot be resolved: %s",
+                    classpath.getUnresolved()
+                        .size(),
+                    String.join(", ", classpath.getUnresolved())));
+        }
+        return classpath.getClasspath();
+    }
+
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return Set.of(STREAMING_KEY, SCAN_JARS_KEY);
     }
 
     @Override
@@ -0,0 +1,310 @@
+package org.palladiosimulator.somox.discoverer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Splits the Java source files of a project into batches that can be parsed one after another,
+ * so that the parser never holds more ASTs and bindings than fit into the heap. Files of the same
+ * Maven module are kept together as far as possible, larger modules are split by package.
+ *
+ * The sizes of the batches are estimated from the sizes of the source files.
+ */
+public class JavaSourceBatches {
+    private static final Logger LOG = Logger.getLogger(JavaSourceBatches.class);
+
+    /**
+     * A rough estimate of the heap an AST with bindings requires per byte of source code.
+     */
+    private static final long HEAP_BYTES_PER_SOURCE_BYTE = 40;
+
+    /**
+     * The part of the maximum heap a single batch may use.
+     */
+    private static final double HEAP_SHARE = 0.25;
+
+    /**
+     * Use more batches than workers to balance differently sized batches.
+     */
+    private static final int BATCHES_PER_WORKER = 2;
+
+    private static final String MAVEN_FILE_NAME = "pom.xml";
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^\\s*package\\s+([\\w.\\s]+?)\\s*;");
+    private static final int PACKAGE_SEARCH_LINES = 200;
+
+    private JavaSourceBatches() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns the source budget for the current heap.
+     *
+     * @return the maximum summed size of the source files parsed at the same time in bytes
+     */
+    public static long getDefaultBudget() {
+        return (long) (Runtime.getRuntime()
+            .maxMemory() * HEAP_SHARE / HEAP_BYTES_PER_SOURCE_BYTE);
+    }
+
+    /**
+     * Returns the summed size of the source files.
+     *
+     * @param sourceFiles
+     *            the absolute paths of the source files
+     * @return the summed size in bytes, missing files count as empty
+     */
+    public static long getTotalSize(List<String> sourceFiles) {
+        long totalSize = 0;
+        for (final String file : sourceFiles) {
+            totalSize += getSize(file);
+        }
+        return totalSize;
+    }
+
+    /**
+     * Splits the source files into batches whose summed file sizes do not exceed {@code budget},
+     * unless a single file is larger than that.
+     *
+     * @param root
+     *            the project directory
+     * @param sourceFiles
+     *            the absolute paths of the source files
+     * @param budget
+     *            the maximum summed size of the source files in a batch in bytes
+     * @return the batches, a single one if all files fit into the budget
+     */
+    public static List<List<String>> split(Path root, List<String> sourceFiles, long budget) {
+        return split(root, sourceFiles, budget, 1);
+    }
+
+    /**
+     * Splits the source files into batches for {@code parallelism} workers parsing at the same
+     * time. The budget is shared between the workers and every worker gets several batches, unless
+     * the files are too few.
+     *
+     * @param root
+     *            the project directory
+     * @param sourceFiles
+     *            the absolute paths of the source files
+     * @param budget
+     *            the maximum summed size of the source files of all batches parsed at the same time
+     *            in bytes
+     * @param parallelism
+     *            the number of workers
+     * @return the batches
+     */
+    public static List<List<String>> split(Path root, List<String> sourceFiles, long budget, int parallelism) {
+        final Map<String, Long> sizes = new HashMap<>();
+        long totalSize = 0;
+        for (final String file : sourceFiles) {
+            final long size = getSize(file);
+            sizes.put(file, size);
+            totalSize += size;
+        }
+        final long batchBudget;
+        if (parallelism > 1) {
+            final long batchCount = (long) parallelism * BATCHES_PER_WORKER;
+            batchBudget = Math.min(budget / parallelism, Math.max(1, (totalSize + batchCount - 1) / batchCount));
+        } else {
+            batchBudget = budget;
+        }
+        if (totalSize <= batchBudget) {
+            return List.of(sourceFiles);
+        }
+
+        // Group the files by module and package, keeping the order in which they were found
+        final Map<Path, Map<Path, List<String>>> groups = new LinkedHashMap<>();
+        final Map<Path, Path> modules = new HashMap<>();
+        for (final String file : sourceFiles) {
+            final Path directory = Path.of(file)
+                .getParent();
+            final Path module = modules.computeIfAbsent(directory, x -> findModule(root, directory));
+            groups.computeIfAbsent(module, x -> new LinkedHashMap<>())
+                .computeIfAbsent(directory, x -> new ArrayList<>())
+                .add(file);
+        }
+
+        final List<List<String>> batches = new ArrayList<>();
+        final Batcher batcher = new Batcher(batches, sizes, batchBudget);
+        for (final Map<Path, List<String>> packages : groups.values()) {
+            final List<String> moduleFiles = new ArrayList<>();
+            packages.values()
+                .forEach(moduleFiles::addAll);
+            if (batcher.fits(moduleFiles)) {
+                batcher.add(moduleFiles);
+                continue;
+            }
+            // The module is too large for a single batch, so it is split by package
+            for (final List<String> packageFiles : packages.values()) {
+                if (batcher.fits(packageFiles)) {
+                    batcher.add(packageFiles);
+                } else {
+                    for (final String file : packageFiles) {
+                        batcher.add(List.of(file));
+                    }
+                }
+            }
+        }
+        batcher.flush();
+
+        LOG.info(String.format("Split %d source files with %d KB into %d batches of at most %d KB",
+                sourceFiles.size(), totalSize / 1024, batches.size(), batchBudget / 1024));
+        return batches;
+    }
+
+    /**
+     * Returns the source roots of the given files, i.e. the directories their package hierarchies
+     * start in. Passing them to the parser lets it resolve types declared in other batches. Files
+     * whose directories do not match their package have no source root, which is logged, so types
+     * declared in them can only be resolved within their own batch.
+     *
+     * @param sourceFiles
+     *            the absolute paths of the source files
+     * @return the source roots in the order they were found in
+     */
+    public static List<String> findSourceRoots(List<String> sourceFiles) {
+        final Set<String> roots = new LinkedHashSet<>();
+        final Map<Path, Optional<Path>> rootsByDirectory = new HashMap<>();
+        final List<Path> mismatches = new ArrayList<>();
+        for (final String file : sourceFiles) {
+            final Path path = Path.of(file);
+            final Path directory = path.getParent();
+            if (directory == null) {
+                continue;
+            }
+            final Optional<Path> sourceRoot = rootsByDirectory.computeIfAbsent(directory, x -> {
+                final Optional<Path> found = Optional.ofNullable(findSourceRoot(path));
+                if (found.isEmpty()) {
+                    mismatches.add(directory);
+                }
+                return found;
+            });
+            sourceRoot.ifPresent(found -> roots.add(found.toString()));
+        }
+        if (!mismatches.isEmpty()) {
+            LOG.warn(String.format("%d directories do not match the packages of their Java files, types declared in "
+                    + "them are not visible to other batches, e.g. %s", mismatches.size(), mismatches.get(0)));
+        }
+        return new ArrayList<>(roots);
+    }
+
+    private static Path findSourceRoot(Path file) {
+        Path sourceRoot = file.getParent();
+        final String packageName = readPackage(file);
+        if (packageName.isEmpty()) {
+            return sourceRoot;
+        }
+        final String[] segments = packageName.split("\\.");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (sourceRoot == null || !sourceRoot.getFileName()
+                .toString()
+                .equals(segments[i])) {
+                // The directories do not match the package
+                return null;
+            }
+            sourceRoot = sourceRoot.getParent();
+        }
+        return sourceRoot;
+    }
+
+    private static String readPackage(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineCount = 0;
+            while ((line = reader.readLine()) != null && lineCount++ < PACKAGE_SEARCH_LINES) {
+                final Matcher matcher = PACKAGE_PATTERN.matcher(line);
+                if (matcher.find()) {
+                    return matcher.group(1)
+                        .replaceAll("\\s", "");
+                }
+                if (line.contains("class ") || line.contains("interface ") || line.contains("enum ")) {
+                    break;
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            LOG.debug("Could not read the package of " + file, e);
+        }
+        return "";
+    }
+
+    private static Path findModule(Path root, Path directory) {
+        final Path normalizedRoot = root.toAbsolutePath()
+            .normalize();
+        for (Path current = directory; current != null && current.startsWith(normalizedRoot); current = current
+            .getParent()) {
+            if (Files.isRegularFile(current.resolve(MAVEN_FILE_NAME))) {
+                return current;
+            }
+        }
+        return normalizedRoot;
+    }
+
+    private static long getSize(String file) {
+        try {
+            return Files.size(Path.of(file));
+        } catch (final IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Fills the batches one after another with groups of files.
+     */
+    private static final class Batcher {
+        private final List<List<String>> batches;
+        private final Map<String, Long> sizes;
+        private final long budget;
+        private List<String> current = new ArrayList<>();
+        private long currentSize;
+
+        Batcher(List<List<String>> batches, Map<String, Long> sizes, long budget) {
+            this.batches = batches;
+            this.sizes = sizes;
+            this.budget = budget;
+        }
+
+        boolean fits(List<String> files) {
+            return sizeOf(files) <= budget;
+        }
+
+        void add(List<String> files) {
+            final long size = sizeOf(files);
+            if (!current.isEmpty() && currentSize + size > budget) {
+                flush();
+            }
+            current.addAll(files);
+            currentSize += size;
+        }
+
+        void flush() {
+            if (!current.isEmpty()) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+        }
+
+        private long sizeOf(List<String> files) {
+            long size = 0;
+            for (final String file : files) {
+                size += sizes.getOrDefault(file, 0L);
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.palladiosimulator.somox.discoverer;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+
+/**
+ * Parses Java source files into JDT ASTs with resolved bindings. If the requestor releases the
+ * ASTs, the files are split into {@link JavaSourceBatches batches}, each of which is parsed by its
+ * own {@link ASTParser}, either one after another or on a pool of worker threads. Otherwise, all
+ * files are parsed at once on the calling thread, since every batch keeps its own binding
+ * environment alive through its ASTs, so splitting would only raise the peak heap.
+ */
+public class JavaSourceParser {
+    private static final Logger LOG = Logger.getLogger(JavaSourceParser.class);
+
+    private final Path root;
+    private final String[] classpathEntries;
+    private final List<String> sourceFiles;
+
+    /**
+     * @param root
+     *            the project directory
+     * @param classpathEntries
+     *            the jars the bindings are resolved against
+     * @param sourceFiles
+     *            the absolute paths of the source files to parse
+     */
+    public JavaSourceParser(Path root, List<String> classpathEntries, List<String> sourceFiles) {
+        this.root = root;
+        this.classpathEntries = classpathEntries.toArray(String[]::new);
+        this.sourceFiles = List.copyOf(sourceFiles);
+    }
+
+    /**
+     * Parses all source files and passes their ASTs to {@code requestor}. For a {@code parallelism}
+     * greater than {@code 1}, the requestor is called from several threads at the same time and has
+     * to be thread-safe.
+     *
+     * @param requestor
+     *            receives the parsed ASTs
+     * @param parallelism
+     *            the number of worker threads, {@code 1} parses all batches on the calling thread
+     * @param releasesASTs
+     *            whether the requestor drops the ASTs after processing them, so that the files can
+     *            be parsed in batches
+     * @param monitor
+     *            the monitor to report progress to and check for cancellation, may be {@code null}
+     * @throws OperationCanceledException
+     *             if the monitor has been canceled
+     */
+    public void parse(FileASTRequestor requestor, int parallelism, boolean releasesASTs, IProgressMonitor monitor) {
+        final List<List<String>> batches;
+        if (releasesASTs) {
+            batches = JavaSourceBatches.split(root, sourceFiles, JavaSourceBatches.getDefaultBudget(), parallelism);
+        } else {
+            batches = List.of(sourceFiles);
+            final long budget = JavaSourceBatches.getDefaultBudget();
+            if (JavaSourceBatches.getTotalSize(sourceFiles) > budget) {
+                LOG.warn(String.format("The Java files exceed the parsing budget of %d KB, but are parsed at once "
+                        + "since their ASTs are kept. Enable streaming to parse them in batches.", budget / 1024));
+            }
+            if (parallelism > 1) {
+                LOG.info("Parsing the Java files on a single thread, since their ASTs are kept");
+            }
+        }
+        // The source roots let the parser resolve the types declared in other batches
+        final String[] sourcepathEntries = batches.size() > 1 ? JavaSourceBatches.findSourceRoots(sourceFiles)
+            .toArray(String[]::new) : new String[0];
+        final SubMonitor subMonitor = SubMonitor.convert(monitor, batches.size());
+
+        if (parallelism <= 1 || batches.size() <= 1) {
+            for (final List<String> batch : batches) {
+                createParser(sourcepathEntries).createASTs(batch.toArray(String[]::new), null, new String[0],
+                        requestor, subMonitor.split(1));
+            }
+            return;
+        }
+
+        // The workers only check for cancellation, progress is reported for each finished batch
+        final IProgressMonitor cancellationMonitor = new NullProgressMonitor() {
+            @Override
+            public boolean isCanceled() {
+                return subMonitor.isCanceled();
+            }
+        };
+        final int workers = Math.min(parallelism, batches.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (final List<String> batch : batches) {
+                results.add(executor.submit(() -> createParser(sourcepathEntries).createASTs(
+                        batch.toArray(String[]::new), null, new String[0], requestor, cancellationMonitor)));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+                subMonitor.worked(1);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new IllegalStateException("Interrupted while parsing the Java files", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("The Java files could not be parsed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.info("Parsed " + sourceFiles.size() + " Java files with " + workers + " workers in " + batches.size()
+                + " batches");
+    }
+
+    /**
+     * Creates a parser resolving bindings against the environment of this project. A new parser is
+     * required for every batch, since a parser resets its environment after creating ASTs.
+     */
+    private ASTParser createParser(String[] sourcepathEntries) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        parser.setBindingsRecovery(true);
+        parser.setStatementsRecovery(true);
+        parser.setEnvironment(classpathEntries, sourcepathEntries, null, true);
+        return parser;
+    }
+}
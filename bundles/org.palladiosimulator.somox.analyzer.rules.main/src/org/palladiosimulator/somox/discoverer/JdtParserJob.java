@@ -7,6 +7,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -19,11 +21,13 @@ import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMLResourceFactoryImpl;
-import org.emftext.language.java.JavaClasspath;
 import org.emftext.language.java.containers.CompilationUnit;
 import org.emftext.language.java.containers.ContainersFactory;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
+import org.palladiosimulator.somox.analyzer.rules.engine.ClasspathLock;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+import org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution;
 
 import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
 import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
@@ -36,12 +40,22 @@ import jamopp.resource.JavaResource2Factory;
 public class JdtParserJob implements Discoverer {
 
     public static final String DISCOVERER_ID = "org.palladiosimulator.somox.discoverer.jdtparser";
+    /**
+     * The partition with the parsed {@link ResourceSet}, so that the analyzer does not have to
+     * parse the project again.
+     */
+    public static final String RESOURCE_SET_ID = DISCOVERER_ID + ".resourceSet";
 
     public static Resource getResource(final URI uri) throws IllegalArgumentException {
         if ((uri == null) || !uri.isFile() || !"jdt".equals(uri.fileExtension())) {
             throw new IllegalArgumentException("No valid JDT model");
         }
-        return new ResourceSetImpl().getResource(uri, true);
+        try {
+            // The model may have been saved in any of the formats
+            return ModelFormat.load(new ResourceSetImpl(), uri);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("The JDT model " + uri + " could not be loaded", e);
+        }
     }
 
     @Override
@@ -49,8 +63,19 @@ public class JdtParserJob implements Discoverer {
             final RuleEngineBlackboard blackboard) {
         return new AbstractBlackboardInteractingJob<>() {
 
+            /**
+             * The JaMoPP classpath is kept until the workflow is done if the proxies of the
+             * published model are resolved on demand. Other workflows in this JVM that parse with
+             * JaMoPP wait until then.
+             */
+            private ClasspathLock classpathLock;
+
             @Override
             public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+                if (classpathLock != null) {
+                    classpathLock.close();
+                    classpathLock = null;
+                }
             }
 
             @Override
@@ -63,10 +88,13 @@ public class JdtParserJob implements Discoverer {
 
                 try {
                     final String uuid = EcoreUtil.generateUUID();
-                    final URI r = saveResource(parseDirectory(root), uuid, root);
+                    final ResourceSet resources = parseDirectory(root, configuration.getProxyResolution()
+                        .forParallelism(configuration.getParallelism()));
+                    final URI r = saveResource(resources, uuid, root, configuration.getModelFormat());
                     final String partitionId = getName() + uuid;
                     assert !getBlackboard().hasPartition(partitionId);
                     getBlackboard().addPartition(partitionId, r);
+                    getBlackboard().addPartition(RESOURCE_SET_ID, resources);
                     logger.info("Add partition to " + r);
                 } catch (final Exception e) {
                     logger.warn(e.getLocalizedMessage());
@@ -82,7 +110,7 @@ public class JdtParserJob implements Discoverer {
                 return "JDT Parser Job";
             }
 
-            private ResourceSet parseDirectory(final Path root) {
+            private ResourceSet parseDirectory(final Path root, final ProxyResolution resolution) {
                 ContainersFactory.eINSTANCE.createEmptyModel();
                 Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
                     .put("java", new JavaResource2Factory());
@@ -90,22 +118,39 @@ public class JdtParserJob implements Discoverer {
                     .put("xmi", new XMIResourceFactoryImpl());
                 Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
                     .put("xml", new XMLResourceFactoryImpl());
-                JavaClasspath.get()
-                    .clear();
-                final JaMoPPJDTParser parser = new JaMoPPJDTParser();
-                final ResourceSet resources = parser.parseDirectory(root);
-                EcoreUtil.resolveAll(resources);
-                return resources;
+                final ClasspathLock lock = ClasspathLock.acquire();
+                boolean keepClasspath = false;
+                try {
+                    final JaMoPPJDTParser parser = new JaMoPPJDTParser();
+                    final ResourceSet resources = parser.parseDirectory(root);
+                    resolution.resolve(resources);
+                    // The remaining proxies need the classpath as long as the model is used
+                    keepClasspath = resolution != ProxyResolution.FULL;
+                    if (keepClasspath) {
+                        logger.warn("Keeping the JaMoPP classpath until the workflow is done for the " + resolution
+                                + " proxy resolution, other workflows in this JVM wait until then. Use "
+                                + ProxyResolution.FULL + " proxy resolution to run them concurrently.");
+                    }
+                    return resources;
+                } finally {
+                    if (keepClasspath) {
+                        classpathLock = lock;
+                    } else {
+                        lock.close();
+                    }
+                }
             }
 
-            private URI saveResource(final ResourceSet resourceSet, final String uuid, final Path root)
-                    throws IOException {
+            private URI saveResource(final ResourceSet resourceSet, final String uuid, final Path root,
+                    final ModelFormat format) throws IOException {
                 INSTANCE.getExtensionToFactoryMap()
                     .put("jdt", new XMIResourceFactoryImpl());
                 final Path path = Paths.get(root.getParent()
                     .toString(), uuid + "." + "jdt");
                 final URI jdtFileURI = URI.createFileURI(path.toString());
-                final Resource jdtResource = resourceSet.createResource(jdtFileURI);
+                final Resource jdtResource = format.createResource(jdtFileURI);
+                resourceSet.getResources()
+                    .add(jdtResource);
 
                 for (final Resource javaResource : new ArrayList<>(resourceSet.getResources())) {
                     if (javaResource.getContents()
@@ -130,7 +175,9 @@ public class JdtParserJob implements Discoverer {
                         .addAll(javaResource.getContents());
                 }
 
-                jdtResource.save(resourceSet.getLoadOptions());
+                final Map<Object, Object> options = new HashMap<>(resourceSet.getLoadOptions());
+                options.putAll(format.getSaveOptions());
+                jdtResource.save(options);
                 return jdtFileURI;
             }
         };
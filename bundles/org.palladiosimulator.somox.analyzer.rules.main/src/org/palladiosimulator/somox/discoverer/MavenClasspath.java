@@ -0,0 +1,532 @@
+package org.palladiosimulator.somox.discoverer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.Namespace;
+import org.jdom2.input.SAXBuilder;
+import org.palladiosimulator.somox.analyzer.rules.engine.FileHashes;
+
+/**
+ * Builds a classpath from the dependencies declared in the POMs of a project. The dependencies are
+ * resolved transitively against a local Maven repository, nearer declarations win over farther
+ * ones. As in Maven, the exclusions of a dependency apply to everything reached through it, and the
+ * dependency management of a project POM also sets the versions of its transitive dependencies.
+ * Modules of the project itself are left out, since their sources are parsed anyway. Jars
+ * with the same content are only added once.
+ *
+ * Dependencies that are not in the local repository are not downloaded, they are reported by
+ * {@link #getUnresolved()}. This includes dependencies whose jar is there but whose POM is not,
+ * since their transitive dependencies are missing from the classpath then.
+ */
+public class MavenClasspath {
+    private static final Logger LOG = Logger.getLogger(MavenClasspath.class);
+
+    private static final String MAVEN_FILE_NAME = "pom.xml";
+    private static final String LOCAL_REPOSITORY_PROPERTY = "maven.repo.local";
+    private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
+    private static final Set<String> TRANSITIVE_SCOPES = Set.of("compile", "runtime");
+    private static final int MAX_INTERPOLATION_DEPTH = 10;
+    private static final String WILDCARD = "*";
+
+    private final Path localRepository;
+    private final Map<Path, Optional<Pom>> poms = new HashMap<>();
+    private final List<String> classpath = new ArrayList<>();
+    private final Set<String> unresolved = new LinkedHashSet<>();
+
+    /**
+     * @param localRepository
+     *            the local Maven repository the dependencies are resolved against
+     */
+    public MavenClasspath(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * Returns the local repository Maven uses by default, i.e. the one given by
+     * {@code -Dmaven.repo.local} or {@code ~/.m2/repository}.
+     */
+    public static Path getDefaultLocalRepository() {
+        final String repository = System.getProperty(LOCAL_REPOSITORY_PROPERTY);
+        if (repository != null && !repository.isBlank()) {
+            return Path.of(repository);
+        }
+        return Path.of(System.getProperty("user.home"), ".m2", "repository");
+    }
+
+    /**
+     * Resolves the dependencies declared in the given POMs.
+     *
+     * @param pomFiles
+     *            the POMs of the project
+     * @return this classpath
+     */
+    public MavenClasspath resolve(List<String> pomFiles) {
+        final List<Pom> projectPoms = new ArrayList<>();
+        for (final String pomFile : pomFiles) {
+            load(Path.of(pomFile)).ifPresent(projectPoms::add);
+        }
+        final Set<String> modules = new HashSet<>();
+        for (final Pom pom : projectPoms) {
+            modules.add(pom.getKey());
+        }
+
+        // Breadth-first, so that the nearest declaration of an artifact wins
+        final Map<String, Dependency> resolved = new LinkedHashMap<>();
+        final Deque<Dependency> pending = new ArrayDeque<>();
+        for (final Pom pom : projectPoms) {
+            final Map<String, String> managedVersions = pom.getManagedVersions();
+            for (final Dependency dependency : pom.getDependencies(true)) {
+                pending.add(dependency.withManagedVersions(managedVersions));
+            }
+        }
+        while (!pending.isEmpty()) {
+            final Dependency dependency = pending.poll();
+            final String key = dependency.getKey();
+            if (modules.contains(key) || resolved.containsKey(key)) {
+                continue;
+            }
+            resolved.put(key, dependency);
+            if (!dependency.isTransitive()) {
+                continue;
+            }
+            final Path dependencyPom = dependency.getPomPath(localRepository);
+            final Optional<Pom> pom = dependencyPom != null && Files.isRegularFile(dependencyPom)
+                    ? load(dependencyPom)
+                    : Optional.empty();
+            if (pom.isEmpty()) {
+                // Its transitive dependencies are unknown, even if its jar is there
+                unresolved.add(dependency.toString());
+                continue;
+            }
+            for (final Dependency transitive : pom.get()
+                .getDependencies(false)) {
+                if (!dependency.excludes(transitive)) {
+                    pending.add(transitive.reachedThrough(dependency));
+                }
+            }
+        }
+
+        final Set<String> hashes = new HashSet<>();
+        for (final Dependency dependency : resolved.values()) {
+            if (!dependency.isJar()) {
+                continue;
+            }
+            final Path jar = dependency.getJarPath(localRepository);
+            if (jar == null || !Files.isRegularFile(jar)) {
+                unresolved.add(dependency.toString());
+            } else if (hashes.add(hash(jar))) {
+                classpath.add(jar.toAbsolutePath()
+                    .normalize()
+                    .toString());
+            }
+        }
+        LOG.info(String.format("Resolved %d of %d declared dependencies in %s", classpath.size(), resolved.size(),
+                localRepository));
+        return this;
+    }
+
+    /**
+     * @return the jars of the resolved dependencies
+     */
+    public List<String> getClasspath() {
+        return Collections.unmodifiableList(classpath);
+    }
+
+    /**
+     * @return the coordinates of the dependencies whose jars or POMs are not in the local repository
+     */
+    public Set<String> getUnresolved() {
+        return Collections.unmodifiableSet(unresolved);
+    }
+
+    private Optional<Pom> load(Path pomFile) {
+        final Path normalized = pomFile.toAbsolutePath()
+            .normalize();
+        if (poms.containsKey(normalized)) {
+            return poms.get(normalized);
+        }
+        // Guard against cyclic parents
+        poms.put(normalized, Optional.empty());
+        Optional<Pom> pom = Optional.empty();
+        try {
+            // Let the parser detect the encoding declared in the POM
+            final Document document = new SAXBuilder().build(normalized.toFile());
+            pom = Optional.of(new Pom(normalized, document.getRootElement()));
+        } catch (IOException | JDOMException e) {
+            LOG.warn(String.format("%s could not be read correctly.", normalized), e);
+        }
+        poms.put(normalized, pom);
+        return pom;
+    }
+
+    private static String hash(Path file) {
+        try {
+            return FileHashes.hash(file);
+        } catch (final IOException e) {
+            // Do not de-duplicate files that cannot be hashed
+            return file.toString();
+        }
+    }
+
+    /**
+     * The parts of a POM that are required to resolve its dependencies.
+     */
+    private final class Pom {
+        private final Pom parent;
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final Map<String, String> properties = new HashMap<>();
+        private final List<Element> dependencies = new ArrayList<>();
+        private final List<Element> managedDependencies = new ArrayList<>();
+        private final Namespace namespace;
+        private Map<String, String> managedVersions;
+
+        Pom(Path file, Element project) {
+            namespace = project.getNamespace();
+            final Element parentElement = project.getChild("parent", namespace);
+            parent = parentElement == null ? null : loadParent(file, parentElement);
+
+            final String parentGroupId = parentElement == null ? null
+                    : parentElement.getChildTextTrim("groupId", namespace);
+            final String parentVersion = parentElement == null ? null
+                    : parentElement.getChildTextTrim("version", namespace);
+            groupId = firstNonNull(project.getChildTextTrim("groupId", namespace), parentGroupId);
+            artifactId = project.getChildTextTrim("artifactId", namespace);
+            version = firstNonNull(project.getChildTextTrim("version", namespace), parentVersion);
+
+            final Element propertiesElement = project.getChild("properties", namespace);
+            if (propertiesElement != null) {
+                for (final Element property : propertiesElement.getChildren()) {
+                    properties.put(property.getName(), property.getTextTrim());
+                }
+            }
+            final Element dependenciesElement = project.getChild("dependencies", namespace);
+            if (dependenciesElement != null) {
+                dependencies.addAll(dependenciesElement.getChildren("dependency", namespace));
+            }
+            final Element management = project.getChild("dependencyManagement", namespace);
+            final Element managedElement = management == null ? null
+                    : management.getChild("dependencies", namespace);
+            if (managedElement != null) {
+                managedDependencies.addAll(managedElement.getChildren("dependency", namespace));
+            }
+        }
+
+        String getKey() {
+            return interpolate(groupId) + ":" + interpolate(artifactId);
+        }
+
+        /**
+         * Returns the declared dependencies, including the ones declared by the parents.
+         *
+         * @param project
+         *            whether this POM belongs to the project, otherwise only dependencies that are
+         *            passed on transitively are returned
+         */
+        List<Dependency> getDependencies(boolean project) {
+            final List<Dependency> result = new ArrayList<>();
+            for (Pom pom = this; pom != null; pom = pom.parent) {
+                for (final Element element : pom.dependencies) {
+                    final Dependency dependency = createDependency(element);
+                    if (project || TRANSITIVE_SCOPES.contains(dependency.scope) && !dependency.optional) {
+                        result.add(dependency);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private Dependency createDependency(Element element) {
+            final String dependencyGroupId = interpolate(element.getChildTextTrim("groupId", namespace));
+            final String dependencyArtifactId = interpolate(element.getChildTextTrim("artifactId", namespace));
+            String dependencyVersion = interpolate(element.getChildTextTrim("version", namespace));
+            if (dependencyVersion == null) {
+                dependencyVersion = getManagedVersions().get(dependencyGroupId + ":" + dependencyArtifactId);
+            }
+            return new Dependency(dependencyGroupId, dependencyArtifactId, dependencyVersion,
+                    firstNonNull(interpolate(element.getChildTextTrim("type", namespace)), "jar"),
+                    interpolate(element.getChildTextTrim("classifier", namespace)),
+                    firstNonNull(interpolate(element.getChildTextTrim("scope", namespace)), "compile"),
+                    interpolate(element.getChildTextTrim("systemPath", namespace)),
+                    Boolean.parseBoolean(element.getChildTextTrim("optional", namespace)), getExclusions(element));
+        }
+
+        /**
+         * Returns the exclusions of a dependency as {@code groupId:artifactId}, either of which may
+         * be the wildcard.
+         */
+        private Set<String> getExclusions(Element element) {
+            final Element exclusionsElement = element.getChild("exclusions", namespace);
+            if (exclusionsElement == null) {
+                return Set.of();
+            }
+            final Set<String> exclusions = new HashSet<>();
+            for (final Element exclusion : exclusionsElement.getChildren("exclusion", namespace)) {
+                exclusions.add(firstNonNull(interpolate(exclusion.getChildTextTrim("groupId", namespace)), WILDCARD)
+                        + ":" + firstNonNull(interpolate(exclusion.getChildTextTrim("artifactId", namespace)),
+                                WILDCARD));
+            }
+            return exclusions;
+        }
+
+        /**
+         * Returns the versions from the dependency management of this POM, its parents and the
+         * imported BOMs.
+         */
+        Map<String, String> getManagedVersions() {
+            if (managedVersions != null) {
+                return managedVersions;
+            }
+            managedVersions = new HashMap<>();
+            for (final Element element : managedDependencies) {
+                final Dependency dependency = createDependency(element);
+                if ("import".equals(dependency.scope) && "pom".equals(dependency.type)) {
+                    final Path bom = dependency.getPomPath(localRepository);
+                    if (bom != null && Files.isRegularFile(bom)) {
+                        load(bom).ifPresent(pom -> pom.getManagedVersions()
+                            .forEach(managedVersions::putIfAbsent));
+                    } else {
+                        unresolved.add(dependency.toString());
+                    }
+                } else if (dependency.version != null) {
+                    managedVersions.putIfAbsent(dependency.getKey(), dependency.version);
+                }
+            }
+            if (parent != null) {
+                parent.getManagedVersions()
+                    .forEach(managedVersions::putIfAbsent);
+            }
+            return managedVersions;
+        }
+
+        private String interpolate(String value) {
+            String result = value;
+            for (int depth = 0; result != null && result.contains("${") && depth < MAX_INTERPOLATION_DEPTH; depth++) {
+                final Matcher matcher = PROPERTY_PATTERN.matcher(result);
+                final StringBuilder interpolated = new StringBuilder();
+                while (matcher.find()) {
+                    final String property = getProperty(matcher.group(1));
+                    matcher.appendReplacement(interpolated,
+                            Matcher.quoteReplacement(property == null ? matcher.group() : property));
+                }
+                matcher.appendTail(interpolated);
+                if (interpolated.toString()
+                    .equals(result)) {
+                    break;
+                }
+                result = interpolated.toString();
+            }
+            return result;
+        }
+
+        private String getProperty(String name) {
+            switch (name) {
+            case "project.groupId":
+            case "pom.groupId":
+            case "groupId":
+                return groupId;
+            case "project.artifactId":
+            case "pom.artifactId":
+            case "artifactId":
+                return artifactId;
+            case "project.version":
+            case "pom.version":
+            case "version":
+                return version;
+            case "project.parent.version":
+            case "parent.version":
+                return parent == null ? null : parent.version;
+            default:
+                for (Pom pom = this; pom != null; pom = pom.parent) {
+                    final String property = pom.properties.get(name);
+                    if (property != null) {
+                        return property;
+                    }
+                }
+                return System.getProperty(name);
+            }
+        }
+
+        private Pom loadParent(Path file, Element parentElement) {
+            final String parentGroupId = parentElement.getChildTextTrim("groupId", namespace);
+            final String parentArtifactId = parentElement.getChildTextTrim("artifactId", namespace);
+            final String parentVersion = parentElement.getChildTextTrim("version", namespace);
+            // A parent within the project takes precedence over the one in the repository
+            final String relativePath = firstNonNull(parentElement.getChildTextTrim("relativePath", namespace),
+                    "../" + MAVEN_FILE_NAME);
+            if (!relativePath.isEmpty()) {
+                Path relativeFile = file.getParent()
+                    .resolve(relativePath)
+                    .normalize();
+                if (Files.isDirectory(relativeFile)) {
+                    relativeFile = relativeFile.resolve(MAVEN_FILE_NAME);
+                }
+                if (Files.isRegularFile(relativeFile)) {
+                    final Optional<Pom> relativeParent = load(relativeFile);
+                    if (relativeParent.isPresent() && relativeParent.get().artifactId != null
+                            && relativeParent.get().artifactId.equals(parentArtifactId)) {
+                        return relativeParent.get();
+                    }
+                }
+            }
+            final Path repositoryFile = new Dependency(parentGroupId, parentArtifactId, parentVersion, "pom", null,
+                    "import", null, false, Set.of()).getPomPath(localRepository);
+            if (repositoryFile != null && Files.isRegularFile(repositoryFile)) {
+                return load(repositoryFile).orElse(null);
+            }
+            unresolved.add(parentGroupId + ":" + parentArtifactId + ":pom:" + parentVersion);
+            return null;
+        }
+    }
+
+    /**
+     * The coordinates of a dependency.
+     */
+    private static final class Dependency {
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String type;
+        private final String classifier;
+        private final String scope;
+        private final String systemPath;
+        private final boolean optional;
+        private final Set<String> exclusions;
+        /**
+         * The versions managed by the project POM this dependency has been reached from.
+         */
+        private final Map<String, String> managedVersions;
+
+        Dependency(String groupId, String artifactId, String version, String type, String classifier, String scope,
+                String systemPath, boolean optional, Set<String> exclusions) {
+            this(groupId, artifactId, version, type, classifier, scope, systemPath, optional, exclusions, Map.of());
+        }
+
+        private Dependency(String groupId, String artifactId, String version, String type, String classifier,
+                String scope, String systemPath, boolean optional, Set<String> exclusions,
+                Map<String, String> managedVersions) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.type = type;
+            this.classifier = classifier;
+            this.scope = scope;
+            this.systemPath = systemPath;
+            this.optional = optional;
+            this.exclusions = exclusions;
+            this.managedVersions = managedVersions;
+        }
+
+        String getKey() {
+            return groupId + ":" + artifactId;
+        }
+
+        /**
+         * Returns this dependency as declared by a project POM with the given dependency management.
+         */
+        Dependency withManagedVersions(Map<String, String> projectVersions) {
+            return new Dependency(groupId, artifactId, version, type, classifier, scope, systemPath, optional,
+                    exclusions, projectVersions);
+        }
+
+        /**
+         * Returns this dependency as reached through {@code dependent}. It inherits the exclusions
+         * of the dependent, and its version is overridden by the dependency management of the
+         * project POM.
+         */
+        Dependency reachedThrough(Dependency dependent) {
+            final Set<String> inherited = new HashSet<>(exclusions);
+            inherited.addAll(dependent.exclusions);
+            return new Dependency(groupId, artifactId,
+                    dependent.managedVersions.getOrDefault(getKey(), version), type, classifier, scope, systemPath,
+                    optional, inherited, dependent.managedVersions);
+        }
+
+        boolean excludes(Dependency dependency) {
+            for (final String exclusion : exclusions) {
+                final String[] coordinates = exclusion.split(":", 2);
+                if (matches(coordinates[0], dependency.groupId) && matches(coordinates[1], dependency.artifactId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matches(String pattern, String coordinate) {
+            return WILDCARD.equals(pattern) || pattern.equals(coordinate);
+        }
+
+        boolean isJar() {
+            return "jar".equals(type) || "bundle".equals(type) || "test-jar".equals(type);
+        }
+
+        boolean isTransitive() {
+            return (isJar() || "pom".equals(type)) && !"system".equals(scope);
+        }
+
+        Path getPomPath(Path repository) {
+            final Path directory = getDirectory(repository);
+            return directory == null ? null : directory.resolve(artifactId + "-" + version + ".pom");
+        }
+
+        Path getJarPath(Path repository) {
+            if ("system".equals(scope)) {
+                return systemPath == null || systemPath.contains("${") ? null : Path.of(systemPath);
+            }
+            final Path directory = getDirectory(repository);
+            if (directory == null) {
+                return null;
+            }
+            String fileClassifier = classifier;
+            if (fileClassifier == null && "test-jar".equals(type)) {
+                fileClassifier = "tests";
+            }
+            return directory.resolve(
+                    artifactId + "-" + version + (fileClassifier == null ? "" : "-" + fileClassifier) + ".jar");
+        }
+
+        private Path getDirectory(Path repository) {
+            if (!isResolvable(groupId) || !isResolvable(artifactId) || !isResolvable(version)) {
+                return null;
+            }
+            return repository.resolve(groupId.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(version);
+        }
+
+        private static boolean isResolvable(String coordinate) {
+            return coordinate != null && !coordinate.isEmpty() && !coordinate.contains("${");
+        }
+
+        @Override
+        public String toString() {
+            return groupId + ":" + artifactId + ":" + type + (classifier == null ? "" : ":" + classifier) + ":"
+                    + version;
+        }
+    }
+
+    private static String firstNonNull(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+}
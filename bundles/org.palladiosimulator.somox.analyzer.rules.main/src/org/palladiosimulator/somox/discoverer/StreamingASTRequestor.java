@@ -0,0 +1,156 @@
+package org.palladiosimulator.somox.discoverer;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.Type;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.all.RuleBackend;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMDetector;
+import org.palladiosimulator.somox.analyzer.rules.engine.IRule;
+
+/**
+ * Applies the rules working on JDT ASTs to every AST as soon as the parser created it. Afterwards,
+ * only copies of the ASTs of detected components are kept. The copies have no bindings, so that
+ * neither the parsed ASTs nor the binding environment of the parser are retained and everything
+ * can be garbage-collected while the parser continues. The detections are recorded in a new
+ * {@link EclipsePCMDetector} on the blackboard, which only holds descriptors of the components.
+ *
+ * The ASTs may be accepted from several parser threads. The rules are applied to one AST at a time,
+ * but the bindings are resolved beforehand on the accepting thread, so that the parser threads only
+ * wait for each other while the rules run. The rules have to be applied within
+ * {@link #acceptAST(String, CompilationUnit)}, since the parser discards the binding environment
+ * afterwards.
+ */
+public class StreamingASTRequestor extends FileASTRequestor {
+    private final RuleEngineBlackboard blackboard;
+    private final Set<DefaultRule> appliedRules;
+    private final List<IRule> rules;
+    private final Map<String, CompilationUnit> components;
+    private final AtomicInteger processedUnits;
+    private final Object lock;
+
+    /**
+     * @param blackboard
+     *            the blackboard to record the detections on
+     * @param selectedRules
+     *            the selected rules, only those working on JDT ASTs are applied
+     */
+    public StreamingASTRequestor(RuleEngineBlackboard blackboard, Set<DefaultRule> selectedRules) {
+        this.blackboard = blackboard;
+        this.appliedRules = new HashSet<>();
+        this.rules = new ArrayList<>();
+        this.components = new HashMap<>();
+        this.processedUnits = new AtomicInteger();
+        this.lock = new Object();
+        blackboard.setEclipsePCMDetector(new EclipsePCMDetector(blackboard));
+        for (final DefaultRule rule : selectedRules) {
+            if (rule.getBackend() == RuleBackend.ECLIPSE) {
+                appliedRules.add(rule);
+                rules.add(rule.getRule(blackboard));
+            }
+        }
+    }
+
+    @Override
+    public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
+        // Resolving the bindings is the expensive part of the rules. Each parser thread has its own
+        // binding environment, so this runs in parallel and the rules mostly hit resolved bindings.
+        ast.accept(new BindingPreloader());
+        final CompilationUnitWrapper unit = new CompilationUnitWrapper(ast);
+        final Path path = Path.of(sourceFilePath);
+        final boolean isComponent;
+        synchronized (lock) {
+            blackboard.addCompilationUnit(unit);
+            blackboard.addCompilationUnitLocation(unit, path);
+            for (final IRule rule : rules) {
+                rule.processRules(path);
+            }
+            blackboard.removeCompilationUnit(unit);
+            isComponent = blackboard.getEclipsePCMDetector()
+                .isComponent(path);
+        }
+        processedUnits.incrementAndGet();
+        if (!isComponent) {
+            return;
+        }
+
+        // The later rules only need the names and the location of a component
+        final CompilationUnit copy = (CompilationUnit) ASTNode.copySubtree(AST.newAST(AST.getJLSLatest(), false),
+                ast);
+        final CompilationUnitWrapper copyUnit = new CompilationUnitWrapper(copy);
+        synchronized (lock) {
+            blackboard.addCompilationUnit(copyUnit);
+            blackboard.addCompilationUnitLocation(copyUnit, path);
+            components.put(sourceFilePath, copy);
+        }
+    }
+
+    /**
+     * Has to be called after the parser created all ASTs.
+     */
+    public void finish() {
+        for (final IRule rule : rules) {
+            rule.finish();
+        }
+    }
+
+    /**
+     * @return the rules that have been applied to the ASTs
+     */
+    public Set<DefaultRule> getAppliedRules() {
+        return Collections.unmodifiableSet(appliedRules);
+    }
+
+    /**
+     * @return the binding-free copies of the ASTs of the detected components by their source file
+     *         path
+     */
+    public Map<String, CompilationUnit> getComponents() {
+        synchronized (lock) {
+            return new HashMap<>(components);
+        }
+    }
+
+    public int getProcessedUnits() {
+        return processedUnits.get();
+    }
+
+    /**
+     * Resolves the bindings of all names, types and annotations outside of method bodies, so that
+     * they are cached by the binding resolver of the AST. The rules work on the declarations.
+     */
+    private static class BindingPreloader extends ASTVisitor {
+        @Override
+        public boolean preVisit2(ASTNode node) {
+            if (node instanceof Block) {
+                return false;
+            }
+            if (node instanceof Name) {
+                ((Name) node).resolveBinding();
+            } else if (node instanceof Type) {
+                ((Type) node).resolveBinding();
+            } else if (node instanceof Annotation) {
+                ((Annotation) node).resolveAnnotationBinding();
+            }
+            return true;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.eclipse.emf.common.CommonPlugin;
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
 import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 
 import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
 import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
@@ -42,15 +43,17 @@ public class YamlDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<String, Map<String, Object>> yamls = new HashMap<>();
+                final Map<String, Object> yamls = new HashMap<>();
+                final Yaml yaml = new Yaml();
                 Stream.concat(Discoverer.find(root, ".yml", logger), Discoverer.find(root, ".yaml", logger))
                     .forEach(p -> {
                         try (Reader reader = new FileReader(p)) {
-                            yamls.put(p, new Yaml().load(reader));
-                        } catch (final IOException e) {
+                            yamls.put(p, yaml.load(reader));
+                        } catch (final IOException | YAMLException e) {
                             logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
+                getBlackboard().addPartition(DISCOVERER_ID, yamls);
             }
 
             @Override
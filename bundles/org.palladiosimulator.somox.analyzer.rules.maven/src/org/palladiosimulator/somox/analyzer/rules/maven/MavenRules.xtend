@@ -4,38 +4,63 @@ import org.palladiosimulator.somox.analyzer.rules.engine.IRule
 
 import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard
 import java.nio.file.Path;
+import java.util.ArrayList
+import java.util.HashMap
 import java.util.HashSet
+import java.util.List
+import java.util.Set
 import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper
 
 class MavenRules extends IRule {
 	static final String MAVEN_FILE_NAME = "pom.xml";
+
+	val List<Path> buildFiles = new ArrayList<Path>();
 	
 	new(RuleEngineBlackboard blackboard) {
 		super(blackboard)
 	}
+
+	override Set<String> getBuildFilePatterns() {
+		#{MAVEN_FILE_NAME}
+	}
 	
 	override boolean processRules(Path path) {
 		if (path !== null && path.fileName.toString().equals(MAVEN_FILE_NAME)) {
-			
-			// Add all file system children as associated compilation units
-			var children = new HashSet<CompilationUnitWrapper>();
-			var parentPath = path.parent;
-			for (unit : blackboard.compilationUnits) {
-				var isChild = false;
-				for (unitPath : blackboard.getCompilationUnitLocations(unit)) {
-					if (unitPath.startsWith(parentPath)) {
+			// The build files are associated with their compilation units at once in finish()
+			buildFiles.add(path);
+			return true;
+		}
+		return false;
+	}
+
+	override void finish() {
+		if (buildFiles.empty) {
+			return;
+		}
+
+		// Index the module directories once
+		var modules = new HashMap<Path, Path>();
+		var children = new HashMap<Path, Set<CompilationUnitWrapper>>();
+		for (buildFile : buildFiles) {
+			modules.put(buildFile.toAbsolutePath.normalize.parent, buildFile);
+			children.put(buildFile, new HashSet<CompilationUnitWrapper>());
+		}
+
+		// Add each compilation unit to every enclosing module by walking up its directories
+		for (unit : blackboard.compilationUnits) {
+			for (unitPath : blackboard.getCompilationUnitLocations(unit)) {
+				var directory = unitPath.toAbsolutePath.normalize.parent;
+				while (directory !== null) {
+					val buildFile = modules.get(directory);
+					if (buildFile !== null) {
 						// The compilation unit is a child of this build file
-						isChild = true;
+						children.get(buildFile).add(unit);
 					}
-				}
-				if (isChild) {
-					children.add(unit);
+					directory = directory.parent;
 				}
 			}
-			blackboard.addSystemAssociations(path, children);
-			
-			return true;
 		}
-		return false;
+		blackboard.addSystemAssociations(children);
+		buildFiles.clear();
 	}
 }
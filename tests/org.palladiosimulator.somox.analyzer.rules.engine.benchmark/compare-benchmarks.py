@@ -0,0 +1,39 @@
+"""Compares two JMH result files and prints the change of every benchmark."""
+import json
+import sys
+
+
+def load(path):
+    with open(path) as file:
+        results = {}
+        for result in json.load(file):
+            params = result.get("params", {})
+            name = result["benchmark"].rsplit(".", 2)[-2:]
+            key = ".".join(name)
+            if params:
+                key += " [" + ", ".join(f"{k}={v}" for k, v in sorted(params.items())) + "]"
+            metric = result["primaryMetric"]
+            results[key] = (metric["score"], metric["scoreError"], metric["scoreUnit"])
+        return results
+
+
+def main():
+    if len(sys.argv) != 3:
+        print(f"Usage: {sys.argv[0]} <base.json> <changed.json>", file=sys.stderr)
+        sys.exit(1)
+    base = load(sys.argv[1])
+    changed = load(sys.argv[2])
+    width = max((len(key) for key in base.keys() | changed.keys()), default=0)
+    print(f"{'Benchmark':<{width}}  {'Base':>20}  {'Changed':>20}  {'Ratio':>7}")
+    for key in sorted(base.keys() | changed.keys()):
+        old = base.get(key)
+        new = changed.get(key)
+        old_text = f"{old[0]:.3f} ± {old[1]:.3f}" if old else "-"
+        new_text = f"{new[0]:.3f} ± {new[1]:.3f}" if new else "-"
+        ratio = f"{new[0] / old[0]:.2f}x" if old and new and old[0] else "-"
+        unit = (new or old)[2]
+        print(f"{key:<{width}}  {old_text:>20}  {new_text:>20}  {ratio:>7}  {unit}")
+
+
+if __name__ == "__main__":
+    main()
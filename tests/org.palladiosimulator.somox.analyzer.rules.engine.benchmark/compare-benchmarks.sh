@@ -0,0 +1,66 @@
+#!/bin/sh
+# Runs the benchmarks on two commits and compares their results. Both commits are checked out into
+# temporary worktrees, so the working copy is left untouched.
+#
+# The benchmarks of the changed commit are used for both, so that the same code is measured.
+# Benchmarks that use classes the base commit does not have yet are skipped for it and are only
+# reported for the changed commit.
+#
+# Usage: compare-benchmarks.sh <base commit> <changed commit> [benchmark regex]
+set -e
+
+if [ $# -lt 2 ]; then
+    echo "Usage: $0 <base commit> <changed commit> [benchmark regex]" >&2
+    exit 1
+fi
+
+BUNDLE_DIR=$(cd "$(dirname "$0")" && pwd)
+ROOT_DIR=$(cd "$BUNDLE_DIR/../.." && pwd)
+BUNDLE=tests/org.palladiosimulator.somox.analyzer.rules.engine.benchmark
+INCLUDE=${3:-.*Benchmark.*}
+RESULTS_DIR=$BUNDLE_DIR/results
+WORK_DIR=$(mktemp -d)
+
+cleanup() {
+    git -C "$ROOT_DIR" worktree remove --force "$WORK_DIR/base" 2>/dev/null || true
+    git -C "$ROOT_DIR" worktree remove --force "$WORK_DIR/changed" 2>/dev/null || true
+    rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+# Checks whether a class of the repository exists in the bundles of a worktree
+class_exists() {
+    CLASS_PATH=$(echo "$2" | tr . /)
+    [ -n "$(find "$1/bundles" \( -path "*/src/$CLASS_PATH.java" -o -path "*/src/$CLASS_PATH.xtend" \) -print | head -n 1)" ]
+}
+
+# Removes the benchmarks that import classes of the repository a worktree does not have, since
+# they would not compile against it
+remove_incompatible_benchmarks() {
+    for SOURCE in $(find "$1/$BUNDLE/src" -name '*.java'); do
+        IMPORTS=$(sed -n 's/^import  *\(static  *\)\{0,1\}\(org\.palladiosimulator\.somox\.[A-Za-z0-9_.*]*\) *;.*/\2/p' "$SOURCE")
+        for IMPORT in $IMPORTS; do
+            IMPORT=${IMPORT%.\*}
+            # Static imports name a member of the class
+            if ! class_exists "$1" "$IMPORT" && ! class_exists "$1" "${IMPORT%.*}"; then
+                echo "Skipping $(basename "$SOURCE" .java) for $2, since $IMPORT does not exist there" >&2
+                rm "$SOURCE"
+                break
+            fi
+        done
+    done
+}
+
+mkdir -p "$RESULTS_DIR"
+for NAME in base changed; do
+    if [ "$NAME" = base ]; then COMMIT=$1; else COMMIT=$2; fi
+    git -C "$ROOT_DIR" worktree add --detach "$WORK_DIR/$NAME" "$COMMIT"
+    # The benchmarks of the changed commit are used for both, so that the same code is measured
+    rm -rf "$WORK_DIR/$NAME/$BUNDLE"
+    cp -R "$BUNDLE_DIR" "$WORK_DIR/$NAME/$BUNDLE"
+    rm -rf "$WORK_DIR/$NAME/$BUNDLE/results" "$WORK_DIR/$NAME/$BUNDLE/target"
+    remove_incompatible_benchmarks "$WORK_DIR/$NAME" "$COMMIT"
+    sh "$WORK_DIR/$NAME/$BUNDLE/run-benchmarks.sh" "$INCLUDE" "$RESULTS_DIR/$NAME.json"
+done
+
+python3 "$BUNDLE_DIR/compare-benchmarks.py" "$RESULTS_DIR/base.json" "$RESULTS_DIR/changed.json"
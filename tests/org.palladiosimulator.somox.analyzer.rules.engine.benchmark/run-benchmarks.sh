@@ -0,0 +1,24 @@
+#!/bin/sh
+# Runs the benchmarks of the rule engine without network access. The dependencies have to be in the
+# local Maven repository, e.g. after one online build of the whole project.
+#
+# Usage: run-benchmarks.sh [benchmark regex] [result file]
+set -e
+
+BUNDLE_DIR=$(cd "$(dirname "$0")" && pwd)
+ROOT_DIR=$(cd "$BUNDLE_DIR/../.." && pwd)
+INCLUDE=${1:-.*Benchmark.*}
+RESULT=${2:-$BUNDLE_DIR/results/jmh-result.json}
+
+mkdir -p "$(dirname "$RESULT")"
+case "$RESULT" in
+    /*) ;;
+    *) RESULT="$(pwd)/$RESULT" ;;
+esac
+
+cd "$ROOT_DIR"
+mvn -o -B verify -DskipBenchmarks=false \
+    -Dbenchmark.include="$INCLUDE" -Dbenchmark.result="$RESULT" \
+    -pl tests/org.palladiosimulator.somox.analyzer.rules.engine.benchmark -am
+
+echo "Benchmark results written to $RESULT"
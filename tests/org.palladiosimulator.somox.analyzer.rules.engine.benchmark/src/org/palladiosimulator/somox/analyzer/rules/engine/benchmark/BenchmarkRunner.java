@@ -0,0 +1,45 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks inside of the OSGi test runtime. JMH cannot fork new JVMs there, since the
+ * benchmarks need the bundles of the rule engine, so every benchmark runs in this JVM.
+ *
+ * The benchmarks are selected by the regular expression in the system property
+ * {@code benchmark.include}, the results are written as JSON to the file in
+ * {@code benchmark.result}. Use {@code run-benchmarks.sh} and {@code compare-benchmarks.sh} to run
+ * them from the command line.
+ */
+public class BenchmarkRunner {
+
+    @Test
+    void runBenchmarks() throws RunnerException, IOException {
+        Path result = Path.of(System.getProperty("benchmark.result", "target/jmh-result.json"));
+        Files.createDirectories(result.toAbsolutePath()
+            .getParent());
+
+        Options options = new OptionsBuilder().include(System.getProperty("benchmark.include", ".*Benchmark.*"))
+            .forks(0)
+            .shouldFailOnError(true)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.toString())
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        assertFalse("No benchmark has been executed", results.isEmpty());
+    }
+}
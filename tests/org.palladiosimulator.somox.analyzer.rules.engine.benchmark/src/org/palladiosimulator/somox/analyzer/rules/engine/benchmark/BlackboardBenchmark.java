@@ -0,0 +1,72 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+
+/**
+ * Measures the lookups of the {@link RuleEngineBlackboard} with a growing number of registered
+ * compilation units. Each invocation looks up every unit once, just like the rules do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class BlackboardBenchmark {
+    private static final AST AST_FACTORY = AST.newAST(AST.getJLSLatest(), false);
+
+    @Param({ "1000", "10000", "100000" })
+    public int unitCount;
+
+    private RuleEngineBlackboard blackboard;
+    private List<CompilationUnitWrapper> units;
+    private List<Path> paths;
+
+    @Setup
+    public void fill() {
+        blackboard = new RuleEngineBlackboard();
+        units = new ArrayList<>(unitCount);
+        paths = new ArrayList<>(unitCount);
+        for (int i = 0; i < unitCount; i++) {
+            CompilationUnitWrapper unit = new CompilationUnitWrapper(AST_FACTORY.newCompilationUnit());
+            Path path = Path.of("src", "package" + (i % 100), "Unit" + i + ".java");
+            blackboard.addCompilationUnit(unit);
+            blackboard.addCompilationUnitLocation(unit, path);
+            units.add(unit);
+            paths.add(path);
+        }
+    }
+
+    @Benchmark
+    public void getCompilationUnitAt(Blackhole blackhole) {
+        for (Path path : paths) {
+            blackhole.consume(blackboard.getCompilationUnitAt(path));
+        }
+    }
+
+    @Benchmark
+    public void getCompilationUnitLocations(Blackhole blackhole) {
+        for (CompilationUnitWrapper unit : units) {
+            blackhole.consume(blackboard.getCompilationUnitLocations(unit));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.emftext.language.java.containers.impl.CompilationUnitImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+
+/**
+ * Measures {@link CompilationUnitWrapper#wrap(java.util.Collection)} for the units of both
+ * parsers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class CompilationUnitWrapperBenchmark {
+
+    @Param({ "BasicProject", "SpringProject", "JaxRsProject" })
+    public String project;
+
+    private List<CompilationUnit> eclipseUnits;
+    private List<CompilationUnitImpl> emfTextUnits;
+
+    @Setup
+    public void parse() {
+        eclipseUnits = new ArrayList<>(Fixtures.parseEclipse(Fixtures.getProject(project))
+            .values());
+        emfTextUnits = Fixtures.parseEMFText(Fixtures.getProject(project));
+    }
+
+    @Benchmark
+    public List<CompilationUnitWrapper> wrapEclipse() {
+        return CompilationUnitWrapper.wrap(eclipseUnits);
+    }
+
+    @Benchmark
+    public List<CompilationUnitWrapper> wrapEMFText() {
+        return CompilationUnitWrapper.wrap(emfTextUnits);
+    }
+}
@@ -0,0 +1,85 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.emftext.language.java.containers.impl.CompilationUnitImpl;
+import org.emftext.language.java.members.Method;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.somox.analyzer.rules.engine.EMFTextRuleHelper;
+
+/**
+ * Measures the {@link EMFTextRuleHelper} queries the rules execute for every JaMoPP compilation
+ * unit. Each invocation queries all units of the test project.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class EMFTextRuleHelperBenchmark {
+
+    @Param({ "BasicProject", "SpringProject", "JaxRsProject" })
+    public String project;
+
+    private List<CompilationUnitImpl> units;
+    private List<Method> methods;
+
+    @Setup
+    public void parse() {
+        units = new ArrayList<>(Fixtures.parseEMFText(Fixtures.getProject(project)));
+        methods = new ArrayList<>();
+        for (CompilationUnitImpl unit : units) {
+            methods.addAll(EMFTextRuleHelper.getMethods(unit));
+        }
+    }
+
+    @Benchmark
+    public void isUnitAnnotatedWithName(Blackhole blackhole) {
+        for (CompilationUnitImpl unit : units) {
+            blackhole.consume(EMFTextRuleHelper.isUnitAnnotatedWithName(unit, "Service", "Controller",
+                    "RestController", "Component"));
+        }
+    }
+
+    @Benchmark
+    public void getMethods(Blackhole blackhole) {
+        for (CompilationUnitImpl unit : units) {
+            blackhole.consume(EMFTextRuleHelper.getMethods(unit));
+        }
+    }
+
+    @Benchmark
+    public void getAllPublicMethods(Blackhole blackhole) {
+        for (CompilationUnitImpl unit : units) {
+            blackhole.consume(EMFTextRuleHelper.getAllPublicMethods(unit));
+        }
+    }
+
+    @Benchmark
+    public void isClassModifiedExactlyWith(Blackhole blackhole) {
+        for (CompilationUnitImpl unit : units) {
+            blackhole.consume(EMFTextRuleHelper.isClassModifiedExactlyWith(unit, "public", "final"));
+        }
+    }
+
+    @Benchmark
+    public void isMethodModifiedExactlyWith(Blackhole blackhole) {
+        for (Method method : methods) {
+            blackhole.consume(EMFTextRuleHelper.isMethodModifiedExactlyWith(method, "public"));
+        }
+    }
+}
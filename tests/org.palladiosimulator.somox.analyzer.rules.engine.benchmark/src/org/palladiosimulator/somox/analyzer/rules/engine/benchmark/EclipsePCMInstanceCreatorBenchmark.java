@@ -0,0 +1,73 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.EMFTextPCMDetector;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMDetector;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMInstanceCreator;
+import org.palladiosimulator.somox.analyzer.rules.engine.IRule;
+
+/**
+ * Measures {@link EclipsePCMInstanceCreator#createPCM(Map)} on the detections of the Spring and
+ * JAX-RS rules. The creator changes the detector's results, so the rules are executed again on a
+ * fresh blackboard before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class EclipsePCMInstanceCreatorBenchmark {
+
+    @Param({ "SpringProject", "JaxRsProject" })
+    public String project;
+
+    private Map<String, CompilationUnit> compilationUnits;
+    private RuleEngineBlackboard blackboard;
+
+    @Setup(Level.Trial)
+    public void parse() {
+        compilationUnits = Fixtures.parseEclipse(Fixtures.getProject(project));
+    }
+
+    @Setup(Level.Invocation)
+    public void detect() {
+        blackboard = Fixtures.createBlackboard(compilationUnits);
+        blackboard.setEMFTextPCMDetector(new EMFTextPCMDetector());
+        blackboard.setEclipsePCMDetector(new EclipsePCMDetector(blackboard));
+        DefaultRule rule = "SpringProject".equals(project) ? DefaultRule.SPRING : DefaultRule.JAX_RS;
+        IRule ruleInstance = rule.getRule(blackboard);
+        for (String path : compilationUnits.keySet()) {
+            ruleInstance.processRules(Path.of(path));
+        }
+        ruleInstance.finish();
+    }
+
+    @Benchmark
+    public Repository createPCM() {
+        Map<String, List<CompilationUnitWrapper>> mapping = Collections.emptyMap();
+        return new EclipsePCMInstanceCreator(blackboard).createPCM(mapping);
+    }
+}
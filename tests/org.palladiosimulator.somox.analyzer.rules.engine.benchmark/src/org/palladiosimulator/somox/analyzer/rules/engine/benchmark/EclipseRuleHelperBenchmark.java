@@ -0,0 +1,87 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipseRuleHelper;
+
+/**
+ * Measures the {@link EclipseRuleHelper} queries the rules execute for every compilation unit. Each
+ * invocation queries all units of the test project. The modifier queries cover the private
+ * {@code areModifiersExactly}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class EclipseRuleHelperBenchmark {
+
+    @Param({ "BasicProject", "SpringProject", "JaxRsProject" })
+    public String project;
+
+    private List<CompilationUnit> units;
+    private List<MethodDeclaration> methods;
+
+    @Setup
+    public void parse() {
+        units = new ArrayList<>(Fixtures.parseEclipse(Fixtures.getProject(project))
+            .values());
+        methods = new ArrayList<>();
+        for (CompilationUnit unit : units) {
+            methods.addAll(EclipseRuleHelper.getMethods(unit));
+        }
+    }
+
+    @Benchmark
+    public void isUnitAnnotatedWithName(Blackhole blackhole) {
+        for (CompilationUnit unit : units) {
+            blackhole.consume(EclipseRuleHelper.isUnitAnnotatedWithName(unit, "Service", "Controller",
+                    "RestController", "Component"));
+        }
+    }
+
+    @Benchmark
+    public void getMethods(Blackhole blackhole) {
+        for (CompilationUnit unit : units) {
+            blackhole.consume(EclipseRuleHelper.getMethods(unit));
+        }
+    }
+
+    @Benchmark
+    public void getAllPublicMethods(Blackhole blackhole) {
+        for (CompilationUnit unit : units) {
+            blackhole.consume(EclipseRuleHelper.getAllPublicMethods(unit));
+        }
+    }
+
+    @Benchmark
+    public void isClassModifiedExactlyWith(Blackhole blackhole) {
+        for (CompilationUnit unit : units) {
+            blackhole.consume(EclipseRuleHelper.isClassModifiedExactlyWith(unit, "public", "final"));
+        }
+    }
+
+    @Benchmark
+    public void isMethodModifiedExactlyWith(Blackhole blackhole) {
+        for (MethodDeclaration method : methods) {
+            blackhole.consume(EclipseRuleHelper.isMethodModifiedExactlyWith(method, "public"));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.emftext.language.java.containers.impl.CompilationUnitImpl;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.ParserAdapter;
+
+/**
+ * Loads the test projects of the rule engine test bundle, so that the benchmarks work on the same
+ * models as the tests. The projects are parsed once per benchmark trial, parsing is not measured.
+ */
+final class Fixtures {
+    /**
+     * The directory with the test projects, set by the build. Falls back to the test bundle next to
+     * the working directory when the benchmarks are started from the IDE.
+     */
+    private static final String FIXTURES_PROPERTY = "benchmark.fixtures";
+    private static final Path DEFAULT_FIXTURES = Path.of("..", "org.palladiosimulator.somox.analyzer.rules.engine.test",
+            "res");
+
+    private Fixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Path getProject(String name) {
+        final String fixtures = System.getProperty(FIXTURES_PROPERTY);
+        final Path root = fixtures == null ? DEFAULT_FIXTURES : Path.of(fixtures);
+        final Path project = root.resolve(name)
+            .toAbsolutePath()
+            .normalize();
+        if (!Files.isDirectory(project)) {
+            throw new IllegalStateException("The test project " + project + " does not exist");
+        }
+        return project;
+    }
+
+    /**
+     * Parses the project with JDT the same way as the Java discoverer does.
+     *
+     * @return the ASTs by their absolute source file path
+     */
+    static Map<String, CompilationUnit> parseEclipse(Path project) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        parser.setBindingsRecovery(true);
+        parser.setStatementsRecovery(true);
+        parser.setEnvironment(find(project, ".jar"), new String[0], new String[0], true);
+        final String[] sourceFilePaths = find(project, ".java");
+        final Map<String, CompilationUnit> compilationUnits = new HashMap<>();
+        parser.createASTs(sourceFilePaths, new String[sourceFilePaths.length], new String[0], new FileASTRequestor() {
+            @Override
+            public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
+                compilationUnits.put(sourceFilePath, ast);
+            }
+        }, null);
+        return compilationUnits;
+    }
+
+    /**
+     * Parses the project with JaMoPP. The model is written into a temporary directory, since
+     * {@link ParserAdapter} always saves it.
+     */
+    static List<CompilationUnitImpl> parseEMFText(Path project) {
+        try {
+            final Path outDir = Files.createTempDirectory("ruleEngineBenchmark");
+            return ParserAdapter.generateModelForPath(project, outDir);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a blackboard with all given units and their locations, like the analyzer does before
+     * executing the rules.
+     */
+    static RuleEngineBlackboard createBlackboard(Map<String, CompilationUnit> compilationUnits) {
+        final RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        for (final Map.Entry<String, CompilationUnit> entry : compilationUnits.entrySet()) {
+            final CompilationUnitWrapper unit = new CompilationUnitWrapper(entry.getValue());
+            blackboard.addCompilationUnit(unit);
+            blackboard.addCompilationUnitLocation(unit, Path.of(entry.getKey()));
+        }
+        return blackboard;
+    }
+
+    private static String[] find(Path project, String suffix) {
+        try (Stream<Path> paths = Files.walk(project)) {
+            final List<String> files = paths.filter(Files::isRegularFile)
+                .map(Path::toString)
+                .filter(path -> path.endsWith(suffix))
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+            return files.toArray(String[]::new);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+import org.palladiosimulator.somox.analyzer.rules.engine.ParserAdapter;
+
+/**
+ * Compares saving and loading the JaMoPP model of a test project in the different
+ * {@link ModelFormat}s. The size of the saved model is printed after each trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class ModelPersistenceBenchmark {
+
+    @Param({ "BasicProject", "SpringProject", "JaxRsProject" })
+    public String project;
+
+    @Param({ "XMI", "XMI_ZIP", "BINARY" })
+    public String format;
+
+    private ModelFormat modelFormat;
+    private Path modelFile;
+    private URI modelURI;
+    private Resource resource;
+
+    @Setup
+    public void parse() throws IOException {
+        modelFormat = ModelFormat.valueOf(format);
+        final Path outDir = Files.createTempDirectory("ruleEngineBenchmark");
+        ParserAdapter.generateModelForPath(Fixtures.getProject(project), outDir, modelFormat);
+        modelFile = outDir.resolve("model.containers");
+        modelURI = URI.createFileURI(modelFile.toString());
+        resource = ModelFormat.load(new ResourceSetImpl(), modelURI);
+    }
+
+    @TearDown
+    public void printSize() throws IOException {
+        System.out.println(project + " as " + modelFormat + ": " + Files.size(modelFile) + " bytes");
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        resource.save(modelFormat.getSaveOptions());
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) throws IOException {
+        blackhole.consume(ModelFormat.load(new ResourceSetImpl(), modelURI)
+            .getContents());
+    }
+}
@@ -0,0 +1,68 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.somox.analyzer.rules.engine.ClasspathLock;
+import org.palladiosimulator.somox.analyzer.rules.engine.ProxyResolution;
+
+import jamopp.parser.jdt.JaMoPPJDTParser;
+
+/**
+ * Compares parsing a test project with JaMoPP and resolving its proxies in the different
+ * {@link ProxyResolution} modes. The number of resources loaded by the resolution is printed after
+ * each trial, as it dominates the size of the model.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(0)
+@State(Scope.Benchmark)
+public class ProxyResolutionBenchmark {
+
+    @Param({ "BasicProject", "SpringProject", "JaxRsProject" })
+    public String project;
+
+    @Param({ "FULL", "SELECTIVE" })
+    public String resolution;
+
+    private Path projectPath;
+    private ProxyResolution proxyResolution;
+    private ResourceSet lastModel;
+
+    @Setup
+    public void findProject() {
+        projectPath = Fixtures.getProject(project);
+        proxyResolution = ProxyResolution.valueOf(resolution);
+    }
+
+    @TearDown
+    public void printResources() {
+        System.out.println(project + " with " + proxyResolution + " resolution: " + lastModel.getResources()
+            .size() + " resources");
+    }
+
+    @Benchmark
+    public ResourceSet parseAndResolve() {
+        try (ClasspathLock lock = ClasspathLock.acquire()) {
+            final ResourceSet model = new JaMoPPJDTParser().parseDirectory(projectPath);
+            proxyResolution.resolve(model);
+            lastModel = model;
+            return model;
+        }
+    }
+}
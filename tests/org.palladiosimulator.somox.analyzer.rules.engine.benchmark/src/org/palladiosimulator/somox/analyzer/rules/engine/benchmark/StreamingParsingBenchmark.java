@@ -0,0 +1,86 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.test.SyntheticProjectGenerator;
+import org.palladiosimulator.somox.discoverer.JavaSourceParser;
+import org.palladiosimulator.somox.discoverer.StreamingASTRequestor;
+
+/**
+ * Measures parsing a synthetic project while applying the rules, like the Java discoverer does in
+ * streaming mode, on a growing number of parser threads. Each invocation parses the whole project.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(0)
+@State(Scope.Benchmark)
+public class StreamingParsingBenchmark {
+    private static final int MODULES = 10;
+    private static final int FAN_OUT = 3;
+    private static final long SEED = 42;
+    private static final Set<DefaultRule> RULES = Set.of(DefaultRule.SPRING, DefaultRule.JAX_RS);
+
+    @Param({ "2000" })
+    public int classCount;
+
+    @Param({ "1", "2", "4", "8" })
+    public int parallelism;
+
+    private Path project;
+    private List<String> sourceFiles;
+
+    @Setup
+    public void generate() throws IOException {
+        project = Files.createTempDirectory("ruleEngineBenchmark");
+        SyntheticProjectGenerator.withClasses(classCount, MODULES, FAN_OUT, SEED)
+            .write(project);
+        try (Stream<Path> paths = Files.walk(project)) {
+            sourceFiles = paths.map(Path::toString)
+                .filter(path -> path.endsWith(".java"))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    @TearDown
+    public void delete() throws IOException {
+        try (Stream<Path> paths = Files.walk(project)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        final StreamingASTRequestor requestor = new StreamingASTRequestor(new RuleEngineBlackboard(), RULES);
+        new JavaSourceParser(project, List.of(), sourceFiles).parse(requestor, parallelism, true, null);
+        requestor.finish();
+        blackhole.consume(requestor.getComponents());
+    }
+}
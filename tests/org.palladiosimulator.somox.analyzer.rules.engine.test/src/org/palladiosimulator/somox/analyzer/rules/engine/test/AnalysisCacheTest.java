@@ -0,0 +1,98 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.main.AnalysisCache;
+
+public class AnalysisCacheTest {
+
+    private static final Set<DefaultRule> RULES = Set.of(DefaultRule.SPRING);
+
+    @Test
+    void testUpToDate(@TempDir Path directory) throws IOException {
+        Path project = createProject(directory);
+        Path out = directory.resolve("out");
+        analyze(project, out, "SELECTIVE");
+
+        AnalysisCache cache = new AnalysisCache(project, out, RULES);
+        cache.putSetting("resolution", "SELECTIVE");
+        assertTrue(cache.isUpToDate(List.of()));
+    }
+
+    @Test
+    void testChangedSetting(@TempDir Path directory) throws IOException {
+        Path project = createProject(directory);
+        Path out = directory.resolve("out");
+        analyze(project, out, "SELECTIVE");
+
+        AnalysisCache cache = new AnalysisCache(project, out, RULES);
+        cache.putSetting("resolution", "FULL");
+        assertFalse(cache.isUpToDate(List.of()));
+    }
+
+    @Test
+    void testChangedJar(@TempDir Path directory) throws IOException {
+        Path project = createProject(directory);
+        Path out = directory.resolve("out");
+        Path jar = Files.writeString(project.resolve("library.jar"), "1");
+        analyze(project, out, "SELECTIVE");
+
+        Files.writeString(jar, "12");
+        AnalysisCache cache = new AnalysisCache(project, out, RULES);
+        cache.putSetting("resolution", "SELECTIVE");
+        assertFalse(cache.isUpToDate(List.of()));
+    }
+
+    @Test
+    void testChangeDuringAnalysis(@TempDir Path directory) throws IOException {
+        Path project = createProject(directory);
+        Path out = directory.resolve("out");
+
+        AnalysisCache analyzed = new AnalysisCache(project, out, RULES);
+        analyzed.snapshot();
+        // The file is edited while the analysis runs
+        Files.writeString(project.resolve("A.java"), "class A { int edited; }");
+        analyzed.save();
+
+        assertFalse(new AnalysisCache(project, out, RULES).isUpToDate(List.of()));
+    }
+
+    @Test
+    void testUpdateChangedFiles(@TempDir Path directory) throws IOException {
+        Path project = createProject(directory);
+        Path out = directory.resolve("out");
+
+        AnalysisCache watched = new AnalysisCache(project, out, RULES);
+        watched.snapshot();
+        Path added = Files.writeString(Files.createDirectories(project.resolve("b"))
+            .resolve("B.java"), "class B {}");
+        Files.delete(project.resolve("A.java"));
+        watched.update(Set.of(project.resolve("A.java"), added.getParent()));
+        watched.save();
+
+        assertTrue(new AnalysisCache(project, out, RULES).isUpToDate(List.of()));
+    }
+
+    private static void analyze(Path project, Path out, String resolution) {
+        AnalysisCache cache = new AnalysisCache(project, out, RULES);
+        cache.putSetting("resolution", resolution);
+        cache.snapshot();
+        cache.save();
+    }
+
+    private static Path createProject(Path directory) throws IOException {
+        Path project = Files.createDirectories(directory.resolve("project"));
+        Files.writeString(project.resolve("A.java"), "class A {}");
+        return project;
+    }
+}
@@ -0,0 +1,93 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.BuildFileDispatcher;
+import org.palladiosimulator.somox.analyzer.rules.engine.IRule;
+
+public class BuildFileDispatcherTest {
+
+    private static class RecordingRule extends IRule {
+        private final Set<String> patterns;
+        private final List<Path> processed = new ArrayList<>();
+
+        RecordingRule(String... patterns) {
+            super(new RuleEngineBlackboard());
+            this.patterns = Set.of(patterns);
+        }
+
+        @Override
+        public boolean processRules(Path path) {
+            processed.add(path);
+            return true;
+        }
+
+        @Override
+        public Set<String> getBuildFilePatterns() {
+            return patterns;
+        }
+    }
+
+    @Test
+    void testFileNameSubscription() {
+        RecordingRule maven = new RecordingRule("pom.xml");
+        RecordingRule none = new RecordingRule();
+        BuildFileDispatcher dispatcher = new BuildFileDispatcher(List.of(maven, none));
+
+        assertTrue(dispatcher.hasSubscriptions());
+        assertTrue(dispatcher.dispatch(Path.of("module", "pom.xml")));
+        assertFalse(dispatcher.dispatch(Path.of("module", "README.md")));
+        assertFalse(dispatcher.dispatch(Path.of("pom.xml", "other.xml")));
+
+        assertEquals(List.of(Path.of("module", "pom.xml")), maven.processed);
+        assertTrue(none.processed.isEmpty());
+    }
+
+    @Test
+    void testGlobSubscription() {
+        RecordingRule gradle = new RecordingRule("*.gradle", "gradle.properties");
+        BuildFileDispatcher dispatcher = new BuildFileDispatcher(List.of(gradle));
+
+        dispatcher.dispatch(Path.of("a", "build.gradle"));
+        dispatcher.dispatch(Path.of("a", "settings.gradle"));
+        dispatcher.dispatch(Path.of("a", "gradle.properties"));
+        dispatcher.dispatch(Path.of("a", "build.gradle.kts"));
+
+        assertEquals(List.of(Path.of("a", "build.gradle"), Path.of("a", "settings.gradle"),
+                Path.of("a", "gradle.properties")), gradle.processed);
+    }
+
+    @Test
+    void testNoSubscriptions() {
+        BuildFileDispatcher dispatcher = new BuildFileDispatcher(List.of(new RecordingRule()));
+
+        assertFalse(dispatcher.hasSubscriptions());
+        assertTrue(dispatcher.getSubscribers(Path.of("pom.xml"))
+            .isEmpty());
+    }
+
+    @Test
+    void testDefaultSubscribesToAllFiles() {
+        IRule external = new IRule(new RuleEngineBlackboard()) {
+            @Override
+            public boolean processRules(Path path) {
+                return true;
+            }
+        };
+        BuildFileDispatcher dispatcher = new BuildFileDispatcher(List.of(external));
+
+        assertTrue(dispatcher.hasSubscriptions());
+        assertTrue(dispatcher.dispatch(Path.of("module", "pom.xml")));
+        assertTrue(dispatcher.dispatch(Path.of("module", "README.md")));
+        assertTrue(dispatcher.dispatch(Path.of("Dockerfile")));
+    }
+}
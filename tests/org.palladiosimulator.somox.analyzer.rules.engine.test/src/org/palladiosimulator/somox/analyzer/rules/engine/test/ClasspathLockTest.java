@@ -0,0 +1,52 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.engine.ClasspathLock;
+
+public class ClasspathLockTest {
+
+    @Test
+    void testWaitsForRelease() throws Exception {
+        final ClasspathLock first = ClasspathLock.acquire();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            try (ClasspathLock lock = ClasspathLock.acquire()) {
+                acquired.countDown();
+            }
+        });
+
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        first.close();
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        second.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testReleasesOnlyOnce() throws Exception {
+        final ClasspathLock first = ClasspathLock.acquire();
+        // Released by another thread, as the JDT parser job does in its cleanup
+        CompletableFuture.runAsync(first::close)
+            .get(10, TimeUnit.SECONDS);
+        first.close();
+
+        final ClasspathLock second = ClasspathLock.acquire();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final CompletableFuture<Void> third = CompletableFuture.runAsync(() -> {
+            try (ClasspathLock lock = ClasspathLock.acquire()) {
+                acquired.countDown();
+            }
+        });
+
+        // The second close of the first lock must not have let the third one in
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        second.close();
+        third.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,89 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.engine.DockerParser;
+import org.palladiosimulator.somox.analyzer.rules.engine.FileIndex;
+import org.palladiosimulator.somox.analyzer.rules.engine.IPCMDetector;
+
+public class DockerParserTest {
+
+    private static final String COMPOSE_FILE = "services:\n  user-service:\n    image: user\n"
+            + "  order-service:\n    image: order\n";
+
+    @Test
+    void testComponentsAreMappedByFileName(@TempDir Path directory) throws IOException {
+        writeProject(directory);
+        // Only contains the component name, must not be taken as the file of UserService
+        write(directory.resolve("order-service/src/UserServiceClient.java"), "class UserServiceClient {}");
+        CompilationUnitWrapper user = wrap("UserService");
+        CompilationUnitWrapper order = wrap("OrderService");
+        IPCMDetector detector = () -> List.of(user, order);
+
+        Map<String, List<CompilationUnitWrapper>> mapping = new DockerParser(new FileIndex(directory),
+                List.of(detector)).getMapping();
+
+        assertEquals(List.of(user), mapping.get("user-service"));
+        assertEquals(List.of(order), mapping.get("order-service"));
+    }
+
+    @Test
+    void testComponentsWithoutFileAreNotMapped(@TempDir Path directory) throws IOException {
+        writeProject(directory);
+        // A directory named like a component is no file of it
+        Files.createDirectories(directory.resolve("user-service/PaymentService"));
+        IPCMDetector detector = () -> List.of(wrap("PaymentService"));
+
+        Map<String, List<CompilationUnitWrapper>> mapping = new DockerParser(new FileIndex(directory),
+                List.of(detector)).getMapping();
+
+        assertFalse(mapping.containsKey("user-service"));
+        assertFalse(mapping.containsKey("order-service"));
+    }
+
+    @Test
+    void testComponentsOfAllDetectorsAreMerged(@TempDir Path directory) throws IOException {
+        writeProject(directory);
+        CompilationUnitWrapper firstUser = wrap("UserService");
+        CompilationUnitWrapper secondUser = wrap("UserService");
+        CompilationUnitWrapper secondOrder = wrap("OrderService");
+        IPCMDetector first = () -> List.of(firstUser);
+        IPCMDetector second = () -> List.of(secondUser, secondOrder);
+
+        Map<String, List<CompilationUnitWrapper>> mapping = new DockerParser(new FileIndex(directory),
+                List.of(first, second)).getMapping();
+
+        assertEquals(List.of(firstUser, secondUser), mapping.get("user-service"));
+        assertEquals(List.of(secondOrder), mapping.get("order-service"));
+    }
+
+    private static void writeProject(Path directory) throws IOException {
+        write(directory.resolve("docker-compose.yml"), COMPOSE_FILE);
+        write(directory.resolve("user-service/src/UserService.java"), "class UserService {}");
+        write(directory.resolve("order-service/src/OrderService.java"), "class OrderService {}");
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private static CompilationUnitWrapper wrap(String className) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setSource(("class " + className + " {}").toCharArray());
+        return new CompilationUnitWrapper((CompilationUnit) parser.createAST(null));
+    }
+}
@@ -0,0 +1,43 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipseMethodDescriptor;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipseTypeDescriptor;
+
+public class EclipseMethodDescriptorTest {
+
+    @Test
+    void testSignature() {
+        IMethodBinding binding = resolveMethod("interface Service { List<String> find(int id, String name); }");
+
+        EclipseMethodDescriptor method = EclipseMethodDescriptor.of(binding);
+
+        assertEquals("find", method.getName());
+        assertEquals(List.of("int", "java.lang.String"), method.getParameterTypes()
+            .stream()
+            .map(EclipseTypeDescriptor::getQualifiedName)
+            .collect(Collectors.toList()));
+        assertEquals("java.util.List<java.lang.String>", method.getReturnType()
+            .getQualifiedName());
+    }
+
+    @Test
+    void testVoidWithoutParameters() {
+        EclipseMethodDescriptor method = EclipseMethodDescriptor.of(resolveMethod("interface Service { void run(); }"));
+
+        assertEquals(List.of(), method.getParameterTypes());
+        assertEquals("void", method.getReturnType()
+            .getQualifiedName());
+    }
+
+    private static IMethodBinding resolveMethod(String source) {
+        return EclipseOperationInterfaceTest.resolveType(source)
+            .getDeclaredMethods()[0];
+    }
+}
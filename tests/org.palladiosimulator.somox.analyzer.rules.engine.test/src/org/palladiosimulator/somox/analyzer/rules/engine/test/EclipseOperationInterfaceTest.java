@@ -0,0 +1,62 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipseMethodDescriptor;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipseOperationInterface;
+
+public class EclipseOperationInterfaceTest {
+
+    /**
+     * Parses {@code source} as a compilation unit in the package {@code p} with resolved bindings.
+     */
+    static CompilationUnit parse(String source) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        parser.setEnvironment(new String[0], new String[0], null, true);
+        parser.setUnitName("/p/Fixture.java");
+        parser.setSource(("package p; import java.util.List; " + source).toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    /**
+     * @return the binding of the first type declared in {@code source}
+     */
+    static ITypeBinding resolveType(String source) {
+        return ((AbstractTypeDeclaration) parse(source).types()
+            .get(0)).resolveBinding();
+    }
+
+    @Test
+    void testOperationInterface() {
+        ITypeBinding binding = resolveType("interface Service { void add(int a); List<String> list(); }");
+
+        EclipseOperationInterface operationInterface = EclipseOperationInterface.of(binding);
+
+        assertEquals("p.Service", operationInterface.getQualifiedName());
+        assertEquals(binding.getKey(), operationInterface.getKey());
+        assertEquals(List.of("add", "list"), operationInterface.getMethods()
+            .stream()
+            .map(EclipseMethodDescriptor::getName)
+            .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testOperationInterfaceWithoutMethods() {
+        EclipseOperationInterface operationInterface = EclipseOperationInterface
+            .of(resolveType("interface Marker {}"));
+
+        assertEquals("p.Marker", operationInterface.getQualifiedName());
+        assertEquals(List.of(), operationInterface.getMethods());
+    }
+}
@@ -0,0 +1,61 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipsePCMDetector;
+
+public class EclipsePCMDetectorTest {
+
+    private static final Path PATH = Path.of("src", "p", "Component.java");
+
+    @Test
+    void testComponentIsLookedUpByPath() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper unit = new CompilationUnitWrapper(
+                EclipseOperationInterfaceTest.parse("class Component {}"));
+        blackboard.addCompilationUnit(unit);
+        blackboard.addCompilationUnitLocation(unit, PATH);
+        EclipsePCMDetector pcmDetector = blackboard.getEclipsePCMDetector();
+
+        pcmDetector.detectComponent(unit.getEclipseCompilationUnit());
+
+        assertTrue(pcmDetector.isComponent(PATH));
+        assertEquals(List.of(unit), pcmDetector.getWrappedComponents());
+    }
+
+    @Test
+    void testRemovedComponentIsNotWrapped() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper unit = new CompilationUnitWrapper(
+                EclipseOperationInterfaceTest.parse("class Component {}"));
+        blackboard.addCompilationUnit(unit);
+        blackboard.addCompilationUnitLocation(unit, PATH);
+        EclipsePCMDetector pcmDetector = blackboard.getEclipsePCMDetector();
+        pcmDetector.detectComponent(unit.getEclipseCompilationUnit());
+
+        blackboard.removeCompilationUnit(unit);
+
+        assertTrue(pcmDetector.getWrappedComponents()
+            .isEmpty());
+    }
+
+    @Test
+    void testOtherUnitIsNoComponent() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper unit = new CompilationUnitWrapper(
+                EclipseOperationInterfaceTest.parse("class Component {}"));
+        blackboard.addCompilationUnit(unit);
+        blackboard.addCompilationUnitLocation(unit, PATH);
+
+        assertFalse(blackboard.getEclipsePCMDetector()
+            .isComponent(PATH));
+    }
+}
@@ -0,0 +1,69 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.engine.EclipseTypeDescriptor;
+
+public class EclipseTypeDescriptorTest {
+
+    @Test
+    void testPrimitive() {
+        EclipseTypeDescriptor type = EclipseTypeDescriptor.of(resolveParameter("int"));
+
+        assertTrue(type.isPrimitive());
+        assertFalse(type.isCollection());
+        assertEquals("int", type.getQualifiedName());
+        assertEquals(0, type.getDimensions());
+    }
+
+    @Test
+    void testArray() {
+        EclipseTypeDescriptor type = EclipseTypeDescriptor.of(resolveParameter("String[][]"));
+
+        assertEquals("java.lang.String[][]", type.getQualifiedName());
+        assertEquals("String[][]", type.getName());
+        assertEquals(2, type.getDimensions());
+    }
+
+    @Test
+    void testCollection() {
+        EclipseTypeDescriptor type = EclipseTypeDescriptor.of(resolveParameter("java.util.Collection"));
+
+        assertTrue(type.isCollection());
+        assertFalse(type.isPrimitive());
+        assertEquals("java.util.Collection", type.getQualifiedName());
+    }
+
+    @Test
+    void testTypeArguments() {
+        ITypeBinding binding = resolveParameter("List<String>");
+
+        EclipseTypeDescriptor type = EclipseTypeDescriptor.of(binding);
+
+        assertEquals("java.util.List<java.lang.String>", type.getQualifiedName());
+        assertEquals(binding.getKey(), type.getKey());
+        assertEquals(1, type.getTypeArguments()
+            .size());
+        assertEquals("java.lang.String", type.getTypeArguments()
+            .get(0)
+            .getQualifiedName());
+    }
+
+    @Test
+    void testNoCollection() {
+        EclipseTypeDescriptor type = EclipseTypeDescriptor.of(resolveParameter("String"));
+
+        assertFalse(type.isCollection());
+        assertTrue(type.getTypeArguments()
+            .isEmpty());
+    }
+
+    private static ITypeBinding resolveParameter(String type) {
+        return EclipseOperationInterfaceTest.resolveType("interface Service { void use(" + type + " value); }")
+            .getDeclaredMethods()[0].getParameterTypes()[0];
+    }
+}
@@ -0,0 +1,36 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.analyzer.rules.engine.FileHashes;
+
+public class FileHashesTest {
+
+    @Test
+    void testSameContent(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("a.jar"), "content");
+        Path copy = Files.writeString(directory.resolve("b.jar"), "content");
+
+        assertEquals(FileHashes.hash(file), FileHashes.hash(copy));
+        assertEquals(64, FileHashes.hash(file)
+            .length());
+    }
+
+    @Test
+    void testChangedFile(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("a.jar"), "content");
+        String hash = FileHashes.hash(file);
+
+        Files.writeString(file, "changed content");
+
+        // The size differs, so the cached hash is not used
+        assertNotEquals(hash, FileHashes.hash(file));
+    }
+}
@@ -0,0 +1,100 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.discoverer.JavaSourceBatches;
+
+public class JavaSourceBatchesTest {
+
+    @Test
+    void testSingleBatchIfBudgetSuffices(@TempDir Path directory) throws IOException {
+        new SyntheticProjectGenerator(3, 2, 1, 1).write(directory);
+        List<String> files = findSources(directory);
+
+        List<List<String>> batches = JavaSourceBatches.split(directory, files, Long.MAX_VALUE);
+
+        assertEquals(1, batches.size());
+        assertEquals(files, batches.get(0));
+    }
+
+    @Test
+    void testBatchesByModule(@TempDir Path directory) throws IOException {
+        new SyntheticProjectGenerator(3, 2, 1, 1).write(directory);
+        List<String> files = findSources(directory);
+        long largestModule = 0;
+        for (int module = 0; module < 3; module++) {
+            largestModule = Math.max(largestModule, sizeOf(findSources(directory.resolve("module" + module))));
+        }
+
+        List<List<String>> batches = JavaSourceBatches.split(directory, files, largestModule);
+
+        assertEquals(3, batches.size());
+        List<String> batchedFiles = new ArrayList<>();
+        for (List<String> batch : batches) {
+            String module = directory.relativize(Path.of(batch.get(0)))
+                .getName(0)
+                .toString();
+            assertTrue(batch.stream()
+                .allMatch(file -> directory.relativize(Path.of(file))
+                    .startsWith(module)));
+            batchedFiles.addAll(batch);
+        }
+        assertEquals(files.size(), batchedFiles.size());
+        assertTrue(batchedFiles.containsAll(files));
+    }
+
+    @Test
+    void testBatchesForWorkers(@TempDir Path directory) throws IOException {
+        new SyntheticProjectGenerator(4, 2, 1, 1).write(directory);
+        List<String> files = findSources(directory);
+
+        List<List<String>> batches = JavaSourceBatches.split(directory, files, Long.MAX_VALUE, 2);
+
+        assertTrue(batches.size() >= 2);
+        assertEquals(files.size(), batches.stream()
+            .mapToInt(List::size)
+            .sum());
+    }
+
+    @Test
+    void testFindSourceRoots(@TempDir Path directory) throws IOException {
+        new SyntheticProjectGenerator(2, 1, 0, 1).write(directory);
+
+        List<String> roots = JavaSourceBatches.findSourceRoots(findSources(directory));
+
+        assertEquals(2, roots.size());
+        assertTrue(roots.contains(directory.resolve(Path.of("module0", "src", "main", "java"))
+            .toString()));
+        assertTrue(roots.contains(directory.resolve(Path.of("module1", "src", "main", "java"))
+            .toString()));
+    }
+
+    private static List<String> findSources(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(path -> path.toString()
+                .endsWith(".java"))
+                .map(Path::toString)
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static long sizeOf(List<String> files) throws IOException {
+        long size = 0;
+        for (String file : files) {
+            size += Files.size(Path.of(file));
+        }
+        return size;
+    }
+}
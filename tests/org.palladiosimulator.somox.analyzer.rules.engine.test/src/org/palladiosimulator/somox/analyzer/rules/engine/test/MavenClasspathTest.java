@@ -0,0 +1,151 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.discoverer.MavenClasspath;
+
+public class MavenClasspathTest {
+
+    @Test
+    void testDeclaredDependencies(@TempDir Path directory) throws IOException {
+        Path repository = directory.resolve("repository");
+        Path project = directory.resolve("project");
+        Path web = install(repository, "org.example", "web", "1.0", "web", dependency("org.example", "core", "2.0"));
+        install(repository, "org.example", "core", "2.0", "core");
+        Path copy = install(repository, "org.example", "copy", "1.0", "core");
+        write(project.resolve("pom.xml"),
+                pom("parent", "<properties><web.version>1.0</web.version></properties>",
+                        dependency("org.example", "web", "${web.version}")
+                                + dependency("org.example", "copy", "1.0")
+                                + dependency("org.example", "missing", "3.0")
+                                + dependency("org.example.project", "module", "${project.version}")));
+        write(project.resolve("module")
+            .resolve("pom.xml"), pom("module", "", ""));
+
+        MavenClasspath classpath = new MavenClasspath(repository).resolve(List.of(project.resolve("pom.xml")
+            .toString(),
+                project.resolve("module")
+                    .resolve("pom.xml")
+                    .toString()));
+
+        // The transitive core has the same content as the nearer copy, the module is part of the project
+        assertEquals(List.of(web.toString(), copy.toString()), classpath.getClasspath());
+        assertEquals(Set.of("org.example:missing:jar:3.0"), classpath.getUnresolved());
+    }
+
+    @Test
+    void testManagedVersions(@TempDir Path directory) throws IOException {
+        Path repository = directory.resolve("repository");
+        Path project = directory.resolve("project");
+        Path web = install(repository, "org.example", "web", "1.0", "web");
+        write(project.resolve("pom.xml"), pom("parent",
+                "<dependencyManagement><dependencies>" + dependency("org.example", "web", "1.0")
+                        + "</dependencies></dependencyManagement>",
+                "<dependency><groupId>org.example</groupId><artifactId>web</artifactId></dependency>"));
+
+        MavenClasspath classpath = new MavenClasspath(repository).resolve(List.of(project.resolve("pom.xml")
+            .toString()));
+
+        assertEquals(List.of(web.toString()), classpath.getClasspath());
+        assertTrue(classpath.getUnresolved()
+            .isEmpty());
+    }
+
+    @Test
+    void testExclusions(@TempDir Path directory) throws IOException {
+        Path repository = directory.resolve("repository");
+        Path project = directory.resolve("project");
+        Path web = install(repository, "org.example", "web", "1.0", "web", dependency("org.example", "core", "2.0"),
+                dependency("org.example", "logging", "1.0"));
+        install(repository, "org.example", "core", "2.0", "core", dependency("org.other", "util", "1.0"));
+        Path logging = install(repository, "org.example", "logging", "1.0", "logging");
+        install(repository, "org.other", "util", "1.0", "util");
+        write(project.resolve("pom.xml"), pom("parent", "",
+                "<dependency><groupId>org.example</groupId><artifactId>web</artifactId><version>1.0</version>"
+                        + "<exclusions><exclusion><groupId>org.example</groupId><artifactId>core</artifactId>"
+                        + "</exclusion><exclusion><groupId>org.other</groupId><artifactId>*</artifactId>"
+                        + "</exclusion></exclusions></dependency>"));
+
+        MavenClasspath classpath = new MavenClasspath(repository).resolve(List.of(project.resolve("pom.xml")
+            .toString()));
+
+        assertEquals(List.of(web.toString(), logging.toString()), classpath.getClasspath());
+        assertTrue(classpath.getUnresolved()
+            .isEmpty());
+    }
+
+    @Test
+    void testManagedTransitiveVersions(@TempDir Path directory) throws IOException {
+        Path repository = directory.resolve("repository");
+        Path project = directory.resolve("project");
+        Path web = install(repository, "org.example", "web", "1.0", "web", dependency("org.example", "core", "1.0"));
+        install(repository, "org.example", "core", "1.0", "old core");
+        Path core = install(repository, "org.example", "core", "2.0", "core");
+        write(project.resolve("pom.xml"), pom("parent",
+                "<dependencyManagement><dependencies>" + dependency("org.example", "core", "2.0")
+                        + "</dependencies></dependencyManagement>",
+                dependency("org.example", "web", "1.0")));
+
+        MavenClasspath classpath = new MavenClasspath(repository).resolve(List.of(project.resolve("pom.xml")
+            .toString()));
+
+        assertEquals(List.of(web.toString(), core.toString()), classpath.getClasspath());
+    }
+
+    @Test
+    void testMissingTransitivePom(@TempDir Path directory) throws IOException {
+        Path repository = directory.resolve("repository");
+        Path project = directory.resolve("project");
+        Path web = install(repository, "org.example", "web", "1.0", "web", dependency("org.example", "core", "2.0"));
+        Path core = install(repository, "org.example", "core", "2.0", "core", dependency("org.other", "util", "1.0"));
+        Files.delete(core.resolveSibling("core-2.0.pom"));
+        write(project.resolve("pom.xml"), pom("parent", "", dependency("org.example", "web", "1.0")));
+
+        MavenClasspath classpath = new MavenClasspath(repository).resolve(List.of(project.resolve("pom.xml")
+            .toString()));
+
+        // The jar of core is there, but the dependencies declared in its POM are unknown
+        assertEquals(List.of(web.toString(), core.toString()), classpath.getClasspath());
+        assertEquals(Set.of("org.example:core:jar:2.0"), classpath.getUnresolved());
+    }
+
+    private static Path install(Path repository, String groupId, String artifactId, String version, String content,
+            String... dependencies) throws IOException {
+        Path directory = repository.resolve(groupId.replace('.', '/'))
+            .resolve(artifactId)
+            .resolve(version);
+        write(directory.resolve(artifactId + "-" + version + ".pom"),
+                "<project><groupId>" + groupId + "</groupId><artifactId>" + artifactId + "</artifactId><version>"
+                        + version + "</version><dependencies>" + String.join("", dependencies)
+                        + "</dependencies></project>");
+        Path jar = directory.resolve(artifactId + "-" + version + ".jar");
+        write(jar, content);
+        return jar.toAbsolutePath()
+            .normalize();
+    }
+
+    private static String pom(String artifactId, String extra, String dependencies) {
+        return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"><groupId>org.example.project</groupId>"
+                + "<artifactId>" + artifactId + "</artifactId><version>1.0</version>" + extra + "<dependencies>"
+                + dependencies + "</dependencies></project>";
+    }
+
+    private static String dependency(String groupId, String artifactId, String version) {
+        return "<dependency><groupId>" + groupId + "</groupId><artifactId>" + artifactId
+                + "</artifactId><version>" + version + "</version></dependency>";
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
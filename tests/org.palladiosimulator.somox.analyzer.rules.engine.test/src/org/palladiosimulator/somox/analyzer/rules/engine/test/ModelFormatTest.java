@@ -0,0 +1,49 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.java.containers.CompilationUnit;
+import org.emftext.language.java.containers.ContainersFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelFormat;
+
+public class ModelFormatTest {
+
+    @Test
+    void testRoundTrip(@TempDir Path directory) throws IOException {
+        for (ModelFormat format : ModelFormat.values()) {
+            URI uri = URI.createFileURI(directory.resolve(format + ".containers")
+                .toString());
+            CompilationUnit unit = ContainersFactory.eINSTANCE.createCompilationUnit();
+            unit.setName("org.example.Unit.java");
+            Resource resource = format.createResource(uri);
+            new ResourceSetImpl().getResources()
+                .add(resource);
+            resource.getContents()
+                .add(unit);
+            resource.save(format.getSaveOptions());
+
+            assertEquals(format, ModelFormat.detect(new ResourceSetImpl().getURIConverter(), uri));
+            Resource loaded = ModelFormat.load(new ResourceSetImpl(), uri);
+            assertEquals(1, loaded.getContents()
+                .size());
+            assertEquals(unit.getName(), ((CompilationUnit) loaded.getContents()
+                .get(0)).getName());
+        }
+    }
+
+    @Test
+    void testParse() {
+        assertEquals(ModelFormat.XMI_ZIP, ModelFormat.parse("xmi-zip"));
+        assertEquals(ModelFormat.BINARY, ModelFormat.parse(" Binary "));
+        assertEquals(ModelFormat.XMI, ModelFormat.parse("unknown"));
+        assertEquals(ModelFormat.XMI, ModelFormat.parse(null));
+    }
+}
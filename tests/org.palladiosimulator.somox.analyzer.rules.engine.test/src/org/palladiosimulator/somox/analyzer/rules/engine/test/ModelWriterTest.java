@@ -0,0 +1,71 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.engine.ModelWriter;
+
+public class ModelWriterTest {
+
+    @Test
+    void testWritesInOrder() throws IOException {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        try (ModelWriter writer = new ModelWriter()) {
+            for (int i = 0; i < 10; i++) {
+                final int index = i;
+                writer.submit("model " + i, () -> written.add(index));
+            }
+            writer.awaitCompletion();
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), written);
+    }
+
+    @Test
+    void testReportsFailures() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        try (ModelWriter writer = new ModelWriter()) {
+            writer.submit("first.repository", () -> {
+                throw new IOException("disk full");
+            });
+            writer.submit("second.repository", () -> written.add("second"));
+            writer.submit("third.repository", () -> {
+                throw new IllegalStateException("dangling reference");
+            });
+
+            IOException failure = assertThrows(IOException.class, writer::awaitCompletion);
+
+            assertTrue(failure.getMessage()
+                .contains("first.repository"));
+            assertEquals(1, failure.getSuppressed().length);
+            assertTrue(failure.getSuppressed()[0].getMessage()
+                .contains("third.repository"));
+            // A failed write does not prevent the following ones
+            assertEquals(List.of("second"), written);
+        }
+    }
+
+    @Test
+    void testSubmitAndWait() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        try (ModelWriter writer = new ModelWriter()) {
+            writer.submitAndWait("model.containers", () -> written.add("model"));
+            // The model may be modified now
+            assertEquals(List.of("model"), written);
+
+            writer.submitAndWait("broken.containers", () -> {
+                throw new IOException("disk full");
+            });
+            IOException failure = assertThrows(IOException.class, writer::awaitCompletion);
+            assertTrue(failure.getMessage()
+                .contains("broken.containers"));
+        }
+    }
+}
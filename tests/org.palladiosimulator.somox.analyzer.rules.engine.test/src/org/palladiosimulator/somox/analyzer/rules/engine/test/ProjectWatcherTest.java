@@ -0,0 +1,68 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.analyzer.rules.cli.ProjectWatcher;
+
+public class ProjectWatcherTest {
+
+    private static final long QUIET_MILLIS = 300;
+    private static final long MAX_WAIT_MILLIS = 1_000;
+    private static final long STREAM_MILLIS = 5_000;
+
+    @Test
+    void testChangedFile(@TempDir Path directory) throws IOException, InterruptedException {
+        Path project = Files.createDirectories(directory.resolve("project"));
+        try (ProjectWatcher watcher = new ProjectWatcher(project, directory.resolve("out"))) {
+            Path file = Files.writeString(project.resolve("A.java"), "class A {}");
+
+            Set<Path> changes = watcher.awaitChanges(QUIET_MILLIS, MAX_WAIT_MILLIS);
+
+            assertTrue(changes.contains(file));
+        }
+    }
+
+    @Test
+    void testSteadyChangesEndBatch(@TempDir Path directory) throws IOException, InterruptedException {
+        Path project = Files.createDirectories(directory.resolve("project"));
+        Path file = project.resolve("A.java");
+        try (ProjectWatcher watcher = new ProjectWatcher(project, directory.resolve("out"))) {
+            // Changes the file more often than the quiet time allows
+            Thread writer = new Thread(() -> {
+                long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STREAM_MILLIS);
+                try {
+                    for (int i = 0; System.nanoTime() < end; i++) {
+                        Files.writeString(file, "class A { int i = " + i + "; }");
+                        Thread.sleep(QUIET_MILLIS / 5);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                        .interrupt();
+                }
+            });
+            writer.start();
+            try {
+                long start = System.nanoTime();
+                Set<Path> changes = watcher.awaitChanges(QUIET_MILLIS, MAX_WAIT_MILLIS);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                assertTrue(changes.contains(file));
+                assertTrue(elapsedMillis < STREAM_MILLIS);
+            } finally {
+                writer.interrupt();
+                writer.join();
+            }
+        }
+    }
+}
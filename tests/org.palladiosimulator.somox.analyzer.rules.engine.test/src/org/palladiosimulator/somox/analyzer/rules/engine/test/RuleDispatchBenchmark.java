@@ -0,0 +1,69 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.apache.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.engine.IRule;
+
+/**
+ * Measures the overhead of dispatching paths to a rule: constructing the rule reflectively for
+ * every path, constructing it through the cached constructor of {@link DefaultRule} for every path,
+ * and reusing a single instance. The paths do not point to any compilation unit, so only the
+ * dispatch itself is measured. This is not part of the regular test run, execute it explicitly to
+ * get the timings.
+ */
+public class RuleDispatchBenchmark {
+    private static final Logger LOG = Logger.getLogger(RuleDispatchBenchmark.class);
+
+    private static final DefaultRule RULE = DefaultRule.SPRING;
+    private static final int DISPATCHES = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final Path PATH = Path.of("src", "Unit.java");
+
+    @Test
+    void benchmarkDispatch() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        IRule reusedRule = RULE.getRule(blackboard);
+
+        measure("reflective construction per path", () -> {
+            try {
+                return RULE.getRuleClass()
+                    .getDeclaredConstructor(RuleEngineBlackboard.class)
+                    .newInstance(blackboard);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        measure("cached constructor per path", () -> RULE.getRule(blackboard));
+        measure("reused instance", () -> reusedRule);
+    }
+
+    private static void measure(String name, Supplier<IRule> rules) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            dispatch(rules);
+        }
+
+        long start = System.nanoTime();
+        boolean processed = dispatch(rules);
+        long duration = System.nanoTime() - start;
+
+        assertFalse(processed);
+        LOG.info(String.format("%s: %d ms for %d paths, %d ns per path", name, duration / 1_000_000, DISPATCHES,
+                duration / DISPATCHES));
+    }
+
+    private static boolean dispatch(Supplier<IRule> rules) {
+        boolean processed = false;
+        for (int i = 0; i < DISPATCHES; i++) {
+            processed |= rules.get()
+                .processRules(PATH);
+        }
+        return processed;
+    }
+}
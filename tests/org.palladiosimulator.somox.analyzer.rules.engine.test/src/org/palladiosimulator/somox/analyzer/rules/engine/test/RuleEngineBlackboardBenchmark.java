@@ -0,0 +1,60 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+
+/**
+ * Measures how {@link RuleEngineBlackboard#getCompilationUnitAt(Path)} scales with the number of
+ * registered compilation units. Every unit is looked up once, just like the rules do. This is not
+ * part of the regular test run, execute it explicitly to get the timings.
+ */
+public class RuleEngineBlackboardBenchmark {
+    private static final Logger LOG = Logger.getLogger(RuleEngineBlackboardBenchmark.class);
+
+    private static final int[] UNIT_COUNTS = { 1_000, 10_000, 100_000 };
+    private static final int WARMUP_ROUNDS = 3;
+
+    @Test
+    void benchmarkLookups() {
+        for (int unitCount : UNIT_COUNTS) {
+            RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+            List<Path> paths = new ArrayList<>(unitCount);
+            for (int i = 0; i < unitCount; i++) {
+                CompilationUnitWrapper unit = RuleEngineBlackboardTest.newCompilationUnit();
+                Path path = Path.of("src", "package" + (i % 100), "Unit" + i + ".java");
+                blackboard.addCompilationUnit(unit);
+                blackboard.addCompilationUnitLocation(unit, path);
+                paths.add(path);
+            }
+
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                lookUpAll(blackboard, paths);
+            }
+
+            long start = System.nanoTime();
+            int found = lookUpAll(blackboard, paths);
+            long duration = System.nanoTime() - start;
+
+            assertEquals(unitCount, found);
+            LOG.info(String.format("%d units: %d ms for all lookups, %d ns per lookup", unitCount,
+                    duration / 1_000_000, duration / unitCount));
+        }
+    }
+
+    private static int lookUpAll(RuleEngineBlackboard blackboard, List<Path> paths) {
+        int found = 0;
+        for (Path path : paths) {
+            found += blackboard.getCompilationUnitAt(path)
+                .size();
+        }
+        return found;
+    }
+}
@@ -0,0 +1,101 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+
+public class RuleEngineBlackboardTest {
+
+    private static final AST AST_FACTORY = AST.newAST(AST.getJLSLatest(), false);
+
+    static CompilationUnitWrapper newCompilationUnit() {
+        return new CompilationUnitWrapper(AST_FACTORY.newCompilationUnit());
+    }
+
+    @Test
+    void testCompilationUnitAtPath() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper first = newCompilationUnit();
+        CompilationUnitWrapper second = newCompilationUnit();
+        blackboard.addCompilationUnits(List.of(first, second));
+        blackboard.addCompilationUnitLocation(first, Path.of("src", "First.java"));
+        blackboard.addCompilationUnitLocation(second, Path.of("src", "Second.java"));
+
+        assertEquals(Set.of(first), blackboard.getCompilationUnitAt(Path.of("src", "First.java")));
+        assertEquals(Set.of(first), blackboard.getCompilationUnitAt(Path.of("src", ".", "First.java")));
+        assertEquals(Set.of(second), blackboard.getCompilationUnitAt(Path.of("src", "Second.java")));
+        assertTrue(blackboard.getCompilationUnitAt(Path.of("src", "Third.java"))
+            .isEmpty());
+    }
+
+    @Test
+    void testMultipleCompilationUnitsAtPath() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper first = newCompilationUnit();
+        CompilationUnitWrapper second = newCompilationUnit();
+        blackboard.addCompilationUnits(List.of(first, second));
+        blackboard.addCompilationUnitLocation(first, Path.of("Shared.java"));
+        blackboard.addCompilationUnitLocation(second, Path.of("Shared.java"));
+
+        assertEquals(Set.of(first, second), blackboard.getCompilationUnitAt(Path.of("Shared.java")));
+    }
+
+    @Test
+    void testLocationlessCompilationUnits() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper located = newCompilationUnit();
+        CompilationUnitWrapper locatedLater = newCompilationUnit();
+        CompilationUnitWrapper locationless = newCompilationUnit();
+
+        // Locations may be registered before and after the compilation units themselves
+        blackboard.addCompilationUnitLocation(located, Path.of("Located.java"));
+        blackboard.addCompilationUnits(List.of(located, locatedLater, locationless));
+        assertEquals(Set.of(locatedLater, locationless), blackboard.getCompilationUnitAt(null));
+
+        blackboard.addCompilationUnitLocation(locatedLater, Path.of("LocatedLater.java"));
+        assertEquals(Set.of(locationless), blackboard.getCompilationUnitAt(null));
+    }
+
+    @Test
+    void testRemoveCompilationUnit() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        CompilationUnitWrapper removed = newCompilationUnit();
+        CompilationUnitWrapper kept = newCompilationUnit();
+        blackboard.addCompilationUnits(List.of(removed, kept));
+        blackboard.addCompilationUnitLocation(removed, Path.of("Shared.java"));
+        blackboard.addCompilationUnitLocation(kept, Path.of("Shared.java"));
+        blackboard.addCompilationUnitLocation(removed, Path.of("Removed.java"));
+
+        blackboard.removeCompilationUnit(removed);
+
+        assertEquals(Set.of(kept), blackboard.getCompilationUnits());
+        assertEquals(Set.of(kept), blackboard.getCompilationUnitAt(Path.of("Shared.java")));
+        assertTrue(blackboard.getCompilationUnitAt(Path.of("Removed.java"))
+            .isEmpty());
+        assertTrue(blackboard.getCompilationUnitLocations(removed)
+            .isEmpty());
+    }
+
+    @Test
+    void testShardReadsPartitions() {
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        blackboard.addPartition("documents", Set.of("docker-compose.yml"));
+        RuleEngineBlackboard shard = blackboard.createShard();
+
+        assertTrue(shard.hasPartition("documents"));
+        assertEquals(Set.of("docker-compose.yml"), shard.getPartition("documents"));
+
+        shard.addPartition("shardOnly", Set.of());
+        assertTrue(shard.hasPartition("shardOnly"));
+        assertFalse(blackboard.hasPartition("shardOnly"));
+    }
+}
@@ -0,0 +1,201 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.emftext.language.java.containers.impl.CompilationUnitImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.engine.ParserAdapter;
+import org.palladiosimulator.somox.analyzer.rules.main.RuleEngineAnalyzer;
+
+/**
+ * Measures the wall time and the peak heap of {@link RuleEngineAnalyzer#executeWith} on synthetic
+ * projects of growing size and fails if either grows super-linearly from one size to the next.
+ * Parsing the projects is not measured. The peak heap is the maximum of the live heap sampled during
+ * a second run, minus the live heap before it. Every sample forces a garbage collection first, so
+ * garbage that happens to be uncollected is not counted. The time is measured in the first run,
+ * which is not slowed down by these collections.
+ *
+ * This is not part of the regular test run, enable it with {@code -DruleEngine.scaling=true}. The
+ * project sizes in classes can be set with {@code -DruleEngine.scaling.sizes=10000,50000,100000}.
+ */
+@EnabledIfSystemProperty(named = "ruleEngine.scaling", matches = "true")
+public class ScalingBenchmark {
+    private static final Logger LOG = Logger.getLogger(ScalingBenchmark.class);
+
+    private static final String SIZES_PROPERTY = "ruleEngine.scaling.sizes";
+    private static final String DEFAULT_SIZES = "1000,2000,4000,8000";
+    private static final int MODULES = 10;
+    private static final int FAN_OUT = 3;
+    private static final long SEED = 42;
+    private static final Set<DefaultRule> RULES = Set.of(DefaultRule.SPRING_EMFTEXT, DefaultRule.JAX_RS_EMFTEXT,
+            DefaultRule.MAVEN);
+
+    /**
+     * How much worse than linear the growth from one project size to the next may be, to tolerate
+     * measurement noise.
+     */
+    private static final double TOLERANCE = 2.0;
+
+    /**
+     * Heap peaks below this may fall between two samples, so they are not compared.
+     */
+    private static final long MIN_COMPARED_HEAP_BYTES = 16L * 1024 * 1024;
+
+    private static final long HEAP_SAMPLE_MILLIS = 50;
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private static final class Measurement {
+        final int classes;
+        final long nanos;
+        final long heapBytes;
+
+        Measurement(int classes, long nanos, long heapBytes) {
+            this.classes = classes;
+            this.nanos = nanos;
+            this.heapBytes = heapBytes;
+        }
+    }
+
+    @Test
+    void testLinearScaling() throws IOException {
+        final int[] sizes = Arrays.stream(System.getProperty(SIZES_PROPERTY, DEFAULT_SIZES)
+            .split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .sorted()
+            .toArray();
+        assertTrue("At least two project sizes are required", sizes.length >= 2);
+
+        // Warm up the JIT on the smallest project
+        measure(sizes[0]);
+
+        final List<Measurement> measurements = new ArrayList<>();
+        for (final int size : sizes) {
+            final Measurement measurement = measure(size);
+            measurements.add(measurement);
+            LOG.info(String.format("%d classes: %d ms, %d MB peak heap", measurement.classes,
+                    measurement.nanos / 1_000_000, measurement.heapBytes / (1024 * 1024)));
+        }
+
+        for (int i = 1; i < measurements.size(); i++) {
+            assertLinearGrowth(measurements.get(i - 1), measurements.get(i));
+        }
+    }
+
+    private static void assertLinearGrowth(Measurement smaller, Measurement larger) {
+        final double sizeGrowth = (double) larger.classes / smaller.classes;
+        final double timeGrowth = (double) larger.nanos / smaller.nanos;
+        LOG.info(String.format("%d to %d classes: %.1fx time", smaller.classes, larger.classes, timeGrowth));
+        assertTrue(String.format("The time grew super-linearly from %d to %d classes: %.1fx for %.1fx classes",
+                smaller.classes, larger.classes, timeGrowth, sizeGrowth), timeGrowth <= sizeGrowth * TOLERANCE);
+
+        if (smaller.heapBytes < MIN_COMPARED_HEAP_BYTES) {
+            LOG.info(String.format("Not comparing the peak heap of %d classes, %d KB are too few to be measured",
+                    smaller.classes, smaller.heapBytes / 1024));
+            return;
+        }
+        final double heapGrowth = (double) larger.heapBytes / smaller.heapBytes;
+        LOG.info(String.format("%d to %d classes: %.1fx peak heap", smaller.classes, larger.classes, heapGrowth));
+        assertTrue(String.format("The peak heap grew super-linearly from %d to %d classes: %.1fx for %.1fx classes",
+                smaller.classes, larger.classes, heapGrowth, sizeGrowth), heapGrowth <= sizeGrowth * TOLERANCE);
+    }
+
+    private static Measurement measure(int size) throws IOException {
+        final Path directory = Files.createTempDirectory("ruleEngineScaling");
+        try {
+            final Path project = directory.resolve("project");
+            final Path out = directory.resolve("out");
+            final SyntheticProjectGenerator generator = SyntheticProjectGenerator.withClasses(size, MODULES, FAN_OUT,
+                    SEED);
+            generator.write(project);
+            final List<CompilationUnitImpl> model = ParserAdapter.generateModelForPath(project, out);
+            final List<CompilationUnitWrapper> wrappedModel = CompilationUnitWrapper.wrap(model);
+
+            final long start = System.nanoTime();
+            RuleEngineAnalyzer.executeWith(project, out, wrappedModel, RULES);
+            final long nanos = System.nanoTime() - start;
+
+            final long baseline = getLiveHeap();
+            final long peak;
+            try (HeapSampler sampler = new HeapSampler()) {
+                RuleEngineAnalyzer.executeWith(project, out, wrappedModel, RULES);
+                peak = sampler.getPeak();
+            }
+
+            return new Measurement(generator.getClassCount(), nanos, Math.max(0, peak - baseline));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Returns the heap used by reachable objects, by collecting the garbage first.
+     */
+    private static long getLiveHeap() {
+        System.gc();
+        return MEMORY.getHeapMemoryUsage()
+            .getUsed();
+    }
+
+    /**
+     * Samples the live heap on a background thread until it is closed. Unlike the peaks of the
+     * single heap pools, which may be reached at different times, the samples are consistent.
+     */
+    private static final class HeapSampler implements AutoCloseable {
+        private final AtomicLong peak;
+        private final Thread thread;
+
+        HeapSampler() {
+            this.peak = new AtomicLong(getLiveHeap());
+            this.thread = new Thread(this::sample, "Heap Sampler");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void sample() {
+            while (!Thread.currentThread()
+                .isInterrupted()) {
+                peak.accumulateAndGet(getLiveHeap(), Math::max);
+                try {
+                    Thread.sleep(HEAP_SAMPLE_MILLIS);
+                } catch (final InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        long getPeak() {
+            return peak.accumulateAndGet(getLiveHeap(), Math::max);
+        }
+
+        @Override
+        public void close() {
+            thread.interrupt();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
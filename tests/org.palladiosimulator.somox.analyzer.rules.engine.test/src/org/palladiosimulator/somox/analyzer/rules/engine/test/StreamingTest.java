@@ -0,0 +1,100 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.somox.analyzer.rules.all.DefaultRule;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.CompilationUnitWrapper;
+import org.palladiosimulator.somox.analyzer.rules.blackboard.RuleEngineBlackboard;
+import org.palladiosimulator.somox.analyzer.rules.configuration.RuleEngineConfiguration;
+import org.palladiosimulator.somox.analyzer.rules.main.RuleEngineAnalyzer;
+import org.palladiosimulator.somox.discoverer.JavaDiscoverer;
+
+public class StreamingTest {
+
+    private static final Path PROJECT = RuleEngineTest.TEST_DIR.resolve("SpringProject");
+    private static final Set<DefaultRule> RULES = Set.of(DefaultRule.SPRING, DefaultRule.MAVEN);
+
+    /**
+     * Applying the rules while parsing only keeps copies of the component ASTs, which must not
+     * change the result of the analysis.
+     */
+    @Test
+    void testStreamingKeepsResult(@TempDir Path out, @TempDir Path streamingOut) throws Exception {
+        RuleEngineBlackboard blackboard = analyze(out, false);
+        RuleEngineBlackboard streamingBlackboard = analyze(streamingOut, true);
+
+        Repository repository = loadRepository(out);
+        Repository streamingRepository = loadRepository(streamingOut);
+        assertFalse(repository.getComponents__Repository()
+            .isEmpty());
+        assertEquals(componentNames(repository), componentNames(streamingRepository));
+        assertEquals(interfaceNames(repository), interfaceNames(streamingRepository));
+        assertEquals(systemAssociations(blackboard), systemAssociations(streamingBlackboard));
+    }
+
+    private static RuleEngineBlackboard analyze(Path out, boolean streaming) throws Exception {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(RuleEngineConfiguration.RULE_ENGINE_SELECTED_RULES,
+                RuleEngineConfiguration.serializeRules(RULES));
+        RuleEngineConfiguration configuration = new RuleEngineConfiguration(attributes);
+        configuration.setInputFolder(URI.createFileURI(PROJECT.toAbsolutePath()
+            .toString()));
+        configuration.setOutputFolder(URI.createFileURI(out.toAbsolutePath()
+            .toString()));
+        configuration.getDiscovererConfig()
+            .setConfig(JavaDiscoverer.DISCOVERER_ID, JavaDiscoverer.STREAMING_KEY, String.valueOf(streaming));
+
+        RuleEngineBlackboard blackboard = new RuleEngineBlackboard();
+        new JavaDiscoverer().create(configuration, blackboard)
+            .execute(new NullProgressMonitor());
+        new RuleEngineAnalyzer(blackboard).analyze(configuration, new HashMap<>(), new NullProgressMonitor());
+        return blackboard;
+    }
+
+    private static Repository loadRepository(Path out) {
+        return RuleEngineTest.loadRepository(URI.createFileURI(out.resolve("eclipsePcm.repository")
+            .toString()));
+    }
+
+    private static Set<String> componentNames(Repository repository) {
+        return repository.getComponents__Repository()
+            .stream()
+            .map(x -> x.getEntityName())
+            .collect(Collectors.toSet());
+    }
+
+    private static Set<String> interfaceNames(Repository repository) {
+        return repository.getInterfaces__Repository()
+            .stream()
+            .map(x -> x.getEntityName())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * The units differ between the analyses, so they are compared by their names.
+     */
+    private static Map<Path, Set<String>> systemAssociations(RuleEngineBlackboard blackboard) {
+        Map<Path, Set<String>> associations = new HashMap<>();
+        for (Entry<Path, Set<CompilationUnitWrapper>> entry : blackboard.getSystemAssociations()
+            .entrySet()) {
+            associations.put(entry.getKey(), entry.getValue()
+                .stream()
+                .map(CompilationUnitWrapper::getName)
+                .collect(Collectors.toSet()));
+        }
+        return associations;
+    }
+}
@@ -0,0 +1,252 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes a Maven multi-module project with Spring and JAX-RS components of configurable size. The
+ * same configuration always results in the same files, so that the measurements of different runs
+ * can be compared.
+ *
+ * Every component consists of five classes: a controller, a service interface and its
+ * implementation, a repository interface and a JAX-RS resource. The implementations are wired to
+ * {@code fanOut} other services and repositories with {@code @Autowired} fields. Each module depends
+ * on up to {@code fanOut} of the modules before it.
+ */
+public class SyntheticProjectGenerator {
+    /**
+     * The number of classes generated per component.
+     */
+    public static final int CLASSES_PER_COMPONENT = 5;
+
+    private static final String GROUP_ID = "org.example.synthetic";
+    private static final String VERSION = "1.0.0";
+
+    private final int modules;
+    private final int componentsPerModule;
+    private final int fanOut;
+    private final long seed;
+
+    /**
+     * @param modules
+     *            the number of Maven modules
+     * @param componentsPerModule
+     *            the number of components in every module
+     * @param fanOut
+     *            the number of dependencies of every service implementation and every module
+     * @param seed
+     *            the seed for choosing the dependencies
+     */
+    public SyntheticProjectGenerator(int modules, int componentsPerModule, int fanOut, long seed) {
+        if (modules < 1 || componentsPerModule < 1 || fanOut < 0) {
+            throw new IllegalArgumentException("At least one module with one component is required");
+        }
+        this.modules = modules;
+        this.componentsPerModule = componentsPerModule;
+        this.fanOut = fanOut;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a generator for a project with about {@code classCount} classes, distributed over
+     * {@code modules} modules.
+     */
+    public static SyntheticProjectGenerator withClasses(int classCount, int modules, int fanOut, long seed) {
+        final int components = Math.max(1, classCount / CLASSES_PER_COMPONENT);
+        return new SyntheticProjectGenerator(modules, Math.max(1, components / modules), fanOut, seed);
+    }
+
+    public int getClassCount() {
+        return modules * componentsPerModule * CLASSES_PER_COMPONENT;
+    }
+
+    /**
+     * Writes the project into {@code root}, which is created if necessary.
+     *
+     * @param root
+     *            the directory of the parent POM
+     * @throws IOException
+     *             if a file could not be written
+     */
+    public void write(Path root) throws IOException {
+        final Random random = new Random(seed);
+        final List<String> moduleNames = new ArrayList<>(modules);
+        for (int module = 0; module < modules; module++) {
+            moduleNames.add(moduleName(module));
+        }
+        write(root.resolve("pom.xml"), parentPom(moduleNames));
+
+        for (int module = 0; module < modules; module++) {
+            final Path moduleDir = root.resolve(moduleNames.get(module));
+            write(moduleDir.resolve("pom.xml"), modulePom(module, chooseModuleDependencies(module, random)));
+
+            final String packageName = GROUP_ID + "." + moduleNames.get(module);
+            final Path sourceDir = moduleDir.resolve(Path.of("src", "main", "java"))
+                .resolve(packageName.replace('.', '/'));
+            for (int component = 0; component < componentsPerModule; component++) {
+                final String name = componentName(module, component);
+                write(sourceDir.resolve(name + "Service.java"), serviceInterface(packageName, name));
+                write(sourceDir.resolve(name + "Repository.java"), repositoryInterface(packageName, name));
+                write(sourceDir.resolve(name + "ServiceImpl.java"),
+                        serviceImplementation(packageName, name, chooseCollaborators(module, component, random)));
+                write(sourceDir.resolve(name + "Controller.java"), controller(packageName, name));
+                write(sourceDir.resolve(name + "Resource.java"), resource(packageName, name));
+            }
+        }
+    }
+
+    private List<Integer> chooseModuleDependencies(int module, Random random) {
+        final List<Integer> dependencies = new ArrayList<>();
+        for (int i = 0; i < fanOut && module > 0; i++) {
+            final int dependency = random.nextInt(module);
+            if (!dependencies.contains(dependency)) {
+                dependencies.add(dependency);
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Chooses the services and repositories of the same module a service implementation depends
+     * on. Only components before the current one are chosen, so that there are no cycles.
+     */
+    private List<String> chooseCollaborators(int module, int component, Random random) {
+        final List<String> collaborators = new ArrayList<>();
+        collaborators.add(componentName(module, component) + "Repository");
+        for (int i = 0; i < fanOut && component > 0; i++) {
+            final String other = componentName(module, random.nextInt(component));
+            final String collaborator = other + (random.nextBoolean() ? "Service" : "Repository");
+            if (!collaborators.contains(collaborator)) {
+                collaborators.add(collaborator);
+            }
+        }
+        return collaborators;
+    }
+
+    private static String moduleName(int module) {
+        return "module" + module;
+    }
+
+    private static String componentName(int module, int component) {
+        return "M" + module + "C" + component;
+    }
+
+    private static String parentPom(List<String> moduleNames) {
+        final StringBuilder pom = new StringBuilder();
+        pom.append("<project>\n")
+            .append("  <modelVersion>4.0.0</modelVersion>\n")
+            .append("  <groupId>" + GROUP_ID + "</groupId>\n")
+            .append("  <artifactId>parent</artifactId>\n")
+            .append("  <version>" + VERSION + "</version>\n")
+            .append("  <packaging>pom</packaging>\n")
+            .append("  <modules>\n");
+        for (final String moduleName : moduleNames) {
+            pom.append("    <module>" + moduleName + "</module>\n");
+        }
+        pom.append("  </modules>\n")
+            .append("</project>\n");
+        return pom.toString();
+    }
+
+    private static String modulePom(int module, List<Integer> dependencies) {
+        final StringBuilder pom = new StringBuilder();
+        pom.append("<project>\n")
+            .append("  <modelVersion>4.0.0</modelVersion>\n")
+            .append("  <parent>\n")
+            .append("    <groupId>" + GROUP_ID + "</groupId>\n")
+            .append("    <artifactId>parent</artifactId>\n")
+            .append("    <version>" + VERSION + "</version>\n")
+            .append("  </parent>\n")
+            .append("  <artifactId>" + moduleName(module) + "</artifactId>\n")
+            .append("  <dependencies>\n");
+        for (final int dependency : dependencies) {
+            pom.append("    <dependency>\n")
+                .append("      <groupId>" + GROUP_ID + "</groupId>\n")
+                .append("      <artifactId>" + moduleName(dependency) + "</artifactId>\n")
+                .append("      <version>" + VERSION + "</version>\n")
+                .append("    </dependency>\n");
+        }
+        pom.append("  </dependencies>\n")
+            .append("</project>\n");
+        return pom.toString();
+    }
+
+    private static String serviceInterface(String packageName, String name) {
+        return "package " + packageName + ";\n\n" //
+                + "public interface " + name + "Service {\n\n" //
+                + "    String find(String id);\n\n" //
+                + "    void save(String id, String value);\n" //
+                + "}\n";
+    }
+
+    private static String repositoryInterface(String packageName, String name) {
+        return "package " + packageName + ";\n\n" //
+                + "@Repository\n" //
+                + "public interface " + name + "Repository {\n\n" //
+                + "    String findById(String id);\n" //
+                + "}\n";
+    }
+
+    private static String serviceImplementation(String packageName, String name, List<String> collaborators) {
+        final StringBuilder source = new StringBuilder();
+        source.append("package " + packageName + ";\n\n")
+            .append("@Service\n")
+            .append("public class " + name + "ServiceImpl implements " + name + "Service {\n");
+        for (final String collaborator : collaborators) {
+            source.append("\n    @Autowired\n")
+                .append("    private " + collaborator + " " + fieldName(collaborator) + ";\n");
+        }
+        source.append("\n    @Override\n")
+            .append("    public String find(String id) {\n")
+            .append("        return " + fieldName(name + "Repository") + ".findById(id);\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void save(String id, String value) {\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String controller(String packageName, String name) {
+        return "package " + packageName + ";\n\n" //
+                + "@RestController\n" //
+                + "@RequestMapping(\"/" + name.toLowerCase() + "\")\n" //
+                + "public class " + name + "Controller {\n\n" //
+                + "    @Autowired\n" //
+                + "    private " + name + "Service service;\n\n" //
+                + "    @GetMapping(\"/{id}\")\n" //
+                + "    public String get(@PathVariable String id) {\n" //
+                + "        return service.find(id);\n" //
+                + "    }\n\n" //
+                + "    @PostMapping(\"/{id}\")\n" //
+                + "    public void post(@PathVariable String id, @RequestBody String value) {\n" //
+                + "        service.save(id, value);\n" //
+                + "    }\n" //
+                + "}\n";
+    }
+
+    private static String resource(String packageName, String name) {
+        return "package " + packageName + ";\n\n" //
+                + "@Path(\"/" + name.toLowerCase() + "/resource\")\n" //
+                + "public class " + name + "Resource {\n\n" //
+                + "    @GET\n" //
+                + "    @Path(\"/{id}\")\n" //
+                + "    public String get(@PathParam(\"id\") String id) {\n" //
+                + "        return id;\n" //
+                + "    }\n" //
+                + "}\n";
+    }
+
+    private static String fieldName(String typeName) {
+        return Character.toLowerCase(typeName.charAt(0)) + typeName.substring(1);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
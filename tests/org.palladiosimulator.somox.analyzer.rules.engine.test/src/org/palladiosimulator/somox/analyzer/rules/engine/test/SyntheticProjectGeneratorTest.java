@@ -0,0 +1,60 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SyntheticProjectGeneratorTest {
+
+    @Test
+    void testProjectSize(@TempDir Path directory) throws IOException {
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator(3, 4, 2, 1);
+        generator.write(directory);
+
+        Map<Path, String> files = readAll(directory);
+        assertEquals(60, generator.getClassCount());
+        assertEquals(60, files.keySet()
+            .stream()
+            .filter(path -> path.toString()
+                .endsWith(".java"))
+            .count());
+        // One parent POM and one POM per module
+        assertEquals(4, files.keySet()
+            .stream()
+            .filter(path -> path.endsWith("pom.xml"))
+            .count());
+        assertTrue(files.get(Path.of("pom.xml"))
+            .contains("<module>module2</module>"));
+    }
+
+    @Test
+    void testDeterministic(@TempDir Path directory) throws IOException {
+        new SyntheticProjectGenerator(2, 5, 3, 7).write(directory.resolve("first"));
+        new SyntheticProjectGenerator(2, 5, 3, 7).write(directory.resolve("second"));
+
+        assertEquals(readAll(directory.resolve("first")), readAll(directory.resolve("second")));
+    }
+
+    private static Map<Path, String> readAll(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile)
+                .collect(Collectors.toMap(root::relativize, path -> {
+                    try {
+                        return Files.readString(path);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, (a, b) -> a, TreeMap::new));
+        }
+    }
+}
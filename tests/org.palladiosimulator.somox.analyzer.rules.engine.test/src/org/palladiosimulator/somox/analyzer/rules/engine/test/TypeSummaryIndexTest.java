@@ -0,0 +1,101 @@
+package org.palladiosimulator.somox.analyzer.rules.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.somox.analyzer.rules.engine.TypeSummary;
+import org.palladiosimulator.somox.analyzer.rules.engine.TypeSummaryIndex;
+
+public class TypeSummaryIndexTest {
+
+    @Test
+    void testFindAnnotatedType(@TempDir Path directory) throws IOException {
+        Path jar = createJar(directory.resolve("test.jar"), Test.class, TempDir.class);
+        TypeSummaryIndex index = new TypeSummaryIndex(directory.resolve("index"));
+        index.addJars(List.of(jar.toString()));
+
+        Optional<TypeSummary> summary = index.find(Test.class.getName());
+
+        assertTrue(summary.isPresent());
+        assertTrue(summary.get()
+            .isAnnotatedWith("Retention"));
+        assertTrue(summary.get()
+            .isAnnotatedWith("java.lang.annotation.Target"));
+        assertFalse(summary.get()
+            .isAnnotatedWith("Service"));
+        assertTrue(summary.get()
+            .getInterfaces()
+            .contains("java.lang.annotation.Annotation"));
+        assertTrue(index.find(TempDir.class.getName())
+            .isPresent());
+        assertFalse(index.find("org.example.Missing")
+            .isPresent());
+    }
+
+    @Test
+    void testReuseIndexFile(@TempDir Path directory) throws IOException {
+        Path jar = createJar(directory.resolve("test.jar"), Test.class);
+        Path copy = Files.copy(jar, directory.resolve("copy.jar"));
+        Path indexDirectory = directory.resolve("index");
+
+        new TypeSummaryIndex(indexDirectory).addJars(List.of(jar.toString()));
+        TypeSummaryIndex secondIndex = new TypeSummaryIndex(indexDirectory);
+        secondIndex.addJars(List.of(copy.toString()));
+
+        // The copy has the same content, so the index file of the first run is reused
+        try (Stream<Path> files = Files.list(indexDirectory)) {
+            assertEquals(1, files.count());
+        }
+        assertTrue(secondIndex.find(Test.class.getName())
+            .isPresent());
+    }
+
+    @Test
+    void testViewContainsOnlyItsJars(@TempDir Path directory) throws IOException {
+        Path first = createJar(directory.resolve("first.jar"), Test.class);
+        Path second = createJar(directory.resolve("second.jar"), TempDir.class);
+        TypeSummaryIndex index = new TypeSummaryIndex(directory.resolve("index"));
+        index.addJars(List.of(first.toString()));
+
+        TypeSummaryIndex view = index.createView(List.of(second.toString()));
+
+        // The jar of an earlier analysis is not on the classpath of this one
+        assertFalse(view.find(Test.class.getName())
+            .isPresent());
+        assertTrue(view.find(TempDir.class.getName())
+            .isPresent());
+        // The view owns its jars, they are not kept by the index
+        assertFalse(index.find(TempDir.class.getName())
+            .isPresent());
+    }
+
+    private static Path createJar(Path jar, Class<?>... classes) throws IOException {
+        try (OutputStream output = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(output)) {
+            for (Class<?> clazz : classes) {
+                String entryName = clazz.getName()
+                    .replace('.', '/') + ".class";
+                zip.putNextEntry(new ZipEntry(entryName));
+                try (InputStream input = clazz.getClassLoader()
+                    .getResourceAsStream(entryName)) {
+                    input.transferTo(zip);
+                }
+                zip.closeEntry();
+            }
+        }
+        return jar;
+    }
+}